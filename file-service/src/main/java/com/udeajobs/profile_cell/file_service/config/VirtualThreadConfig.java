@@ -0,0 +1,32 @@
+package com.udeajobs.profile_cell.file_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+
+/**
+ * Configuración del modo de hilos virtuales (spring.threads.virtual.enabled=true).
+ * En este modo Tomcat y las tareas asíncronas se ejecutan sobre hilos virtuales,
+ * de modo que las llamadas bloqueantes a S3 no agotan el pool de hilos.
+ * Se registran métricas a partir de los eventos JFR jdk.VirtualThreadPinned para
+ * detectar hilos virtuales bloqueados sobre su hilo portador (jvm.threads.virtual.pinned).
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Registra las métricas de hilos virtuales basadas en JFR.
+     *
+     * @return binder de métricas de hilos virtuales
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+}
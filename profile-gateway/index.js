@@ -32,10 +32,26 @@ fastify.register(httpProxy, {
 });
 
 
+// Las operaciones administrativas (exportación e importación masiva) no se publican:
+// se rechaza cualquier ruta con un segmento "admin", decodificado y sin distinguir mayúsculas
+const isAdminPath = (url) => {
+  try {
+    const path = decodeURIComponent(url.split('?')[0]).toLowerCase();
+    return path.split('/').some((segment) => segment.split(';')[0] === 'admin');
+  } catch (err) {
+    return true;
+  }
+};
+
 fastify.register(httpProxy, {
   upstream: PROFILE_SERVICE_URL,
   prefix: '/profile-cell/profiles',  // <-- URL pública simple
   rewritePrefix: '/api/v1/profile',  // <-- URL interna con versión
+  preHandler: async (request, reply) => {
+    if (isAdminPath(request.url)) {
+      return reply.code(404).send({ error: 'Not Found' });
+    }
+  },
 });
 
 
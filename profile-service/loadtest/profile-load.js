@@ -0,0 +1,69 @@
+// Prueba de carga de profile-service con k6 (https://k6.io).
+// Reproduce tráfico de lectura con picos, como el de los reclutadores, para comparar la
+// pila servlet y la reactiva con la misma carga:
+//
+//   k6 run -e BASE_URL=http://localhost:8080/api/v1/profile -e USER_IDS=id1,id2,id3 loadtest/profile-load.js
+//
+// Variables: BASE_URL, USER_IDS (identificadores de perfiles existentes separados por comas),
+// BASE_RATE y PEAK_RATE (peticiones por segundo fuera y dentro del pico).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/v1/profile';
+const USER_IDS = (__ENV.USER_IDS || '').split(',').filter((id) => id.length > 0);
+const BASE_RATE = parseInt(__ENV.BASE_RATE || '200', 10);
+const PEAK_RATE = parseInt(__ENV.PEAK_RATE || '2000', 10);
+
+const SECTIONS = ['personal-info', 'skills', 'experience', 'education', 'portfolio'];
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json', 'Accept-Encoding': 'gzip' } };
+
+export const options = {
+    scenarios: {
+        spiky_reads: {
+            executor: 'ramping-arrival-rate',
+            startRate: BASE_RATE,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: BASE_RATE, duration: '1m' },
+                { target: PEAK_RATE, duration: '15s' },
+                { target: PEAK_RATE, duration: '1m' },
+                { target: BASE_RATE, duration: '15s' },
+                { target: BASE_RATE, duration: '1m' },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{endpoint:profile}': ['p(99)<250'],
+    },
+};
+
+export function setup() {
+    if (USER_IDS.length === 0) {
+        throw new Error('USER_IDS debe contener al menos un identificador de perfil');
+    }
+}
+
+function randomUserId() {
+    return USER_IDS[Math.floor(Math.random() * USER_IDS.length)];
+}
+
+export default function () {
+    const roll = Math.random();
+    let response;
+    if (roll < 0.7) {
+        response = http.get(`${BASE_URL}/${randomUserId()}`, { headers: { 'Accept-Encoding': 'gzip' }, tags: { endpoint: 'profile' } });
+    } else if (roll < 0.85) {
+        const section = SECTIONS[Math.floor(Math.random() * SECTIONS.length)];
+        response = http.get(`${BASE_URL}/${randomUserId()}/${section}`, { tags: { endpoint: 'section' } });
+    } else if (roll < 0.95) {
+        const ids = Array.from({ length: 20 }, randomUserId);
+        response = http.post(`${BASE_URL}/batch`, JSON.stringify({ ids }), { ...JSON_HEADERS, tags: { endpoint: 'batch' } });
+    } else {
+        const body = { skills: [{ nombre: 'Java', nivelMinimo: 'INTERMEDIO' }], limit: 20 };
+        response = http.post(`${BASE_URL}/search/skills`, JSON.stringify(body), { ...JSON_HEADERS, tags: { endpoint: 'search' } });
+    }
+    check(response, { 'status 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,124 @@
+package com.udeajobs.profile.profile_service.benchmark;
+
+import com.udeajobs.profile.profile_service.entity.Educacion;
+import com.udeajobs.profile.profile_service.entity.ExperienciaLaboral;
+import com.udeajobs.profile.profile_service.entity.Habilidad;
+import com.udeajobs.profile.profile_service.entity.InformacionPersonal;
+import com.udeajobs.profile.profile_service.entity.Metadata;
+import com.udeajobs.profile.profile_service.entity.Portafolio;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.entity.Ubicacion;
+import com.udeajobs.profile.profile_service.enums.NivelHabilidad;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Perfiles de prueba para los benchmarks, con contenido de tamaño realista.
+ * Los sub-documentos se reparten entre las cuatro secciones (habilidades, experiencia,
+ * educación y portafolio), de modo que un perfil de 200 sub-documentos tiene 50 de cada una.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+final class ProfileFixtures {
+
+    private static final String DESCRIPCION = "Desarrollo y mantenimiento de servicios backend en Java y Spring Boot, "
+            + "diseño de APIs REST, integración con MongoDB y RabbitMQ, y acompañamiento técnico al equipo "
+            + "en revisiones de código, pruebas automatizadas y despliegues continuos.";
+
+    private static final NivelHabilidad[] NIVELES = NivelHabilidad.values();
+
+    private ProfileFixtures() {
+    }
+
+    /**
+     * Construye un perfil con el número de sub-documentos indicado.
+     *
+     * @param subDocuments número total de elementos entre las cuatro secciones
+     * @return perfil de prueba
+     */
+    static Profile profile(int subDocuments) {
+        int perSection = subDocuments / 4;
+        int remainder = subDocuments % 4;
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+        return Profile.builder()
+                .id("usuario-benchmark-" + subDocuments)
+                .informacionPersonal(InformacionPersonal.builder()
+                        .nombreCompleto("María Fernanda Restrepo Gómez")
+                        .email("maria.restrepo@udea.edu.co")
+                        .tituloProfesional("Ingeniera de Software Senior")
+                        .resumen(DESCRIPCION)
+                        .ubicacion(Ubicacion.builder().ciudad("Medellín").pais("Colombia").build())
+                        .fotoUrl("https://files.udeajobs.com/photos/usuario-benchmark.jpg")
+                        .build())
+                .habilidades(habilidades(perSection + (remainder > 0 ? 1 : 0)))
+                .experienciaLaboral(experiencias(perSection + (remainder > 1 ? 1 : 0)))
+                .educacion(educacion(perSection + (remainder > 2 ? 1 : 0)))
+                .portafolio(portafolio(perSection))
+                .metadata(Metadata.builder()
+                        .perfilCompleto(subDocuments > 0)
+                        .fechaCreacion(now.minusYears(1))
+                        .ultimaActualizacion(now)
+                        .build())
+                .version((long) subDocuments)
+                .build();
+    }
+
+    static List<Habilidad> habilidades(int count) {
+        List<Habilidad> habilidades = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            habilidades.add(Habilidad.builder()
+                    .id("skill-" + i)
+                    .nombre("Tecnología " + i)
+                    .nivel(NIVELES[i % NIVELES.length])
+                    .build());
+        }
+        return habilidades;
+    }
+
+    static List<ExperienciaLaboral> experiencias(int count) {
+        List<ExperienciaLaboral> experiencias = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            experiencias.add(ExperienciaLaboral.builder()
+                    .id("exp-" + i)
+                    .empresa("Empresa de Tecnología " + i + " S.A.S.")
+                    .puesto("Desarrolladora Backend")
+                    .fechaInicio(LocalDate.of(2015, 1, 1).plusMonths(i))
+                    .fechaFin(LocalDate.of(2016, 1, 1).plusMonths(i))
+                    .descripcion(DESCRIPCION)
+                    .build());
+        }
+        return experiencias;
+    }
+
+    static List<Educacion> educacion(int count) {
+        List<Educacion> educacion = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            educacion.add(Educacion.builder()
+                    .id("edu-" + i)
+                    .institucion("Universidad de Antioquia")
+                    .titulo("Curso de especialización " + i)
+                    .fechaFin(LocalDate.of(2014, 6, 30).plusMonths(i))
+                    .build());
+        }
+        return educacion;
+    }
+
+    static List<Portafolio> portafolio(int count) {
+        List<Portafolio> portafolio = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            portafolio.add(Portafolio.builder()
+                    .id("port-" + i)
+                    .titulo("Proyecto " + i)
+                    .descripcion(DESCRIPCION)
+                    .url("https://github.com/udeajobs/proyecto-" + i)
+                    .documentoUrl("https://files.udeajobs.com/docs/proyecto-" + i + ".pdf")
+                    .build());
+        }
+        return portafolio;
+    }
+}
@@ -0,0 +1,107 @@
+package com.udeajobs.profile.profile_service.benchmark;
+
+import com.udeajobs.profile.profile_service.dto.response.EducacionResponse;
+import com.udeajobs.profile.profile_service.dto.response.ExperienciaLaboralResponse;
+import com.udeajobs.profile.profile_service.dto.response.HabilidadResponse;
+import com.udeajobs.profile.profile_service.dto.response.InformacionPersonalResponse;
+import com.udeajobs.profile.profile_service.dto.response.MetadataResponse;
+import com.udeajobs.profile.profile_service.dto.response.PortafolioResponse;
+import com.udeajobs.profile.profile_service.dto.response.ProfileCardResponse;
+import com.udeajobs.profile.profile_service.dto.response.ProfileResponse;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.mapper.ProfileMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la conversión de entidades a DTOs de respuesta en {@link ProfileMapper},
+ * que se ejecuta en cada lectura de perfil no servida desde caché.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileMapperBenchmark {
+
+    /**
+     * Número total de sub-documentos del perfil
+     */
+    @Param({"0", "10", "50", "200"})
+    public int subDocuments;
+
+    private final ProfileMapper mapper = new ProfileMapper();
+    private final Set<ProfileSection> personalAndSkills =
+            EnumSet.of(ProfileSection.INFORMACION_PERSONAL, ProfileSection.HABILIDADES);
+
+    private Profile profile;
+
+    @Setup
+    public void setUp() {
+        profile = ProfileFixtures.profile(subDocuments);
+    }
+
+    @Benchmark
+    public ProfileResponse toProfileResponse() {
+        return mapper.toProfileResponse(profile);
+    }
+
+    @Benchmark
+    public ProfileResponse toProfileResponseWithSections() {
+        return mapper.toProfileResponse(profile, personalAndSkills);
+    }
+
+    @Benchmark
+    public ProfileCardResponse toProfileCardResponse() {
+        return mapper.toProfileCardResponse(profile);
+    }
+
+    @Benchmark
+    public InformacionPersonalResponse toInformacionPersonalResponse() {
+        return mapper.toInformacionPersonalResponse(profile.getInformacionPersonal());
+    }
+
+    @Benchmark
+    public List<HabilidadResponse> toHabilidadResponses() {
+        return mapper.toHabilidadResponses(profile.getHabilidades());
+    }
+
+    @Benchmark
+    public List<ExperienciaLaboralResponse> toExperienciaLaboralResponses() {
+        return mapper.toExperienciaLaboralResponses(profile.getExperienciaLaboral());
+    }
+
+    @Benchmark
+    public List<EducacionResponse> toEducacionResponses() {
+        return mapper.toEducacionResponses(profile.getEducacion());
+    }
+
+    @Benchmark
+    public List<PortafolioResponse> toPortafolioResponses() {
+        return mapper.toPortafolioResponses(profile.getPortafolio());
+    }
+
+    @Benchmark
+    public MetadataResponse toMetadataResponse() {
+        return mapper.toMetadataResponse(profile.getMetadata());
+    }
+}
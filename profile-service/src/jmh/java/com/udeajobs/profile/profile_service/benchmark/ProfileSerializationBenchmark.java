@@ -0,0 +1,89 @@
+package com.udeajobs.profile.profile_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udeajobs.profile.profile_service.dto.response.ProfileResponse;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.mapper.ProfileMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmarks de la serialización JSON de {@link ProfileResponse} con un ObjectMapper
+ * configurado como el de Spring Boot, y del coste completo de generar el cuerpo de
+ * GET /{userId} cuando no está en la caché de perfiles serializados (mapeo, serialización
+ * y compresión gzip).
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileSerializationBenchmark {
+
+    /**
+     * Número total de sub-documentos del perfil
+     */
+    @Param({"0", "10", "50", "200"})
+    public int subDocuments;
+
+    private final ProfileMapper mapper = new ProfileMapper();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Profile profile;
+    private ProfileResponse response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        profile = ProfileFixtures.profile(subDocuments);
+        response = mapper.toProfileResponse(profile);
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ProfileResponse deserialize() throws IOException {
+        return objectMapper.readValue(json, ProfileResponse.class);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        return compress(json);
+    }
+
+    @Benchmark
+    public byte[] mapSerializeAndGzip() throws IOException {
+        return compress(objectMapper.writeValueAsBytes(mapper.toProfileResponse(profile)));
+    }
+
+    private static byte[] compress(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(body);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+package com.udeajobs.profile.profile_service.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udeajobs.profile.profile_service.dto.request.ExperienciaLaboralRequest;
+import com.udeajobs.profile.profile_service.mapper.MergePatchMapper;
+import com.udeajobs.profile.profile_service.repository.FieldPatch;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la validación con Bean Validation de {@link ExperienciaLaboralRequest},
+ * que se ejecuta en cada alta o modificación de experiencia, y de la traducción de un
+ * merge patch de experiencia, que valida campo a campo.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private MergePatchMapper mergePatchMapper;
+
+    private ExperienciaLaboralRequest valid;
+    private ExperienciaLaboralRequest invalid;
+    private JsonNode patch;
+
+    @Setup
+    public void setUp() throws IOException {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        mergePatchMapper = new MergePatchMapper(objectMapper, validator);
+
+        valid = ExperienciaLaboralRequest.builder()
+                .empresa("Empresa de Tecnología S.A.S.")
+                .puesto("Desarrolladora Backend")
+                .fechaInicio(LocalDate.of(2020, 1, 1))
+                .fechaFin(LocalDate.of(2023, 6, 30))
+                .descripcion("Desarrollo de servicios backend en Java y Spring Boot.")
+                .build();
+        invalid = ExperienciaLaboralRequest.builder()
+                .empresa("")
+                .puesto("X")
+                .fechaInicio(LocalDate.now().plusYears(1))
+                .descripcion("x".repeat(2001))
+                .build();
+        patch = objectMapper.readTree("{\"puesto\":\"Líder Técnica\",\"fechaFin\":null,\"descripcion\":\"Liderazgo técnico del equipo backend.\"}");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ExperienciaLaboralRequest>> validateValidExperience() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ExperienciaLaboralRequest>> validateInvalidExperience() {
+        return validator.validate(invalid);
+    }
+
+    @Benchmark
+    public FieldPatch mergePatchExperience() {
+        return mergePatchMapper.toFieldPatch(patch, ExperienciaLaboralRequest.class);
+    }
+}
@@ -0,0 +1,26 @@
+package com.udeajobs.profile.profile_service.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la caché en memoria de perfiles.
+ * El proveedor, tamaño máximo y expiración se definen en application.yml
+ * (spring.cache.*); con spring.cache.type=none la caché queda deshabilitada.
+ * Las métricas de aciertos, fallos y desalojos se exportan a Prometheus
+ * a través de Actuator (cache.gets, cache.evictions).
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Caché de perfiles serializados a JSON indexada por userId y versión.
+     * Una escritura cambia la versión, por lo que la entrada anterior deja de usarse
+     * y la nueva se genera en la siguiente lectura.
+     */
+    public static final String PROFILE_JSON_CACHE = "profileJson";
+}
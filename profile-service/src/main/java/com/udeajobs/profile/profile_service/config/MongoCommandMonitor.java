@@ -0,0 +1,307 @@
+package com.udeajobs.profile.profile_service.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Monitor de los comandos y del pool de conexiones del driver de MongoDB.
+ * <p>
+ * La latencia por tipo de comando ya la registra Spring Boot en {@code mongodb.driver.commands};
+ * este monitor añade el tiempo de espera por una conexión del pool ({@code profile.mongo.pool.wait})
+ * y guarda en un buffer circular acotado los comandos que superan el umbral de lentitud, con
+ * la forma de su filtro y, si se habilita, su plan de ejecución. El buffer se consulta con el
+ * endpoint de actuator {@code mongoslowqueries}, sin necesidad de activar el profiler de MongoDB.
+ * <p>
+ * El documento de un comando solo es válido durante la notificación de inicio, por lo que la
+ * forma del filtro se calcula en ese momento y solo para los comandos que filtran documentos.
+ * El explain se ejecuta en un hilo virtual, de uno en uno, descartando los que llegan mientras
+ * hay otro en curso. Del plan se elimina la consulta interpretada ({@code parsedQuery}) y los
+ * filtros y límites de índice de cada etapa conservan solo su forma, igual que el filtro.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoCommandMonitor implements CommandListener, ConnectionPoolListener {
+
+    /**
+     * Campo con el filtro de cada comando que filtra documentos
+     */
+    private static final Map<String, String> FILTER_FIELDS = Map.of(
+            "find", "filter",
+            "aggregate", "pipeline",
+            "count", "query",
+            "distinct", "query",
+            "findAndModify", "query",
+            "update", "updates",
+            "delete", "deletes");
+
+    /**
+     * Campos de sesión y transacción que no admite el comando explain
+     */
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction");
+
+    /**
+     * Campos del plan de ejecución que contienen los valores literales de la consulta
+     */
+    private static final Set<String> PLAN_VALUE_FIELDS = Set.of("filter", "indexBounds");
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+
+    @Value("${profile.mongo.slow-command.threshold:100ms}")
+    private Duration slowThreshold;
+
+    @Value("${profile.mongo.slow-command.capacity:100}")
+    private int capacity;
+
+    @Value("${profile.mongo.slow-command.explain:false}")
+    private boolean explain;
+
+    private final Map<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+    private final Deque<SlowMongoCommand> slowCommands = new ArrayDeque<>();
+    private final Semaphore explainPermit = new Semaphore(1);
+
+    /**
+     * Datos de un comando en curso que se conservan hasta conocer su duración.
+     */
+    private record StartedCommand(LocalDateTime startedAt, String collection, String filterShape, BsonDocument command) {
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String filterField = FILTER_FIELDS.get(event.getCommandName());
+        if (filterField == null) {
+            return;
+        }
+        BsonDocument command = event.getCommand();
+        BsonValue collection = command.get(event.getCommandName());
+        inFlight.put(event.getRequestId(), new StartedCommand(
+                LocalDateTime.now(),
+                collection != null && collection.isString() ? collection.asString().getValue() : null,
+                filterShape(event.getCommandName(), command.get(filterField)),
+                explain ? command.clone() : null));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(event.getRequestId(), event.getDatabaseName(), event.getCommandName(),
+                event.getElapsedTime(TimeUnit.MILLISECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId(), event.getDatabaseName(), event.getCommandName(),
+                event.getElapsedTime(TimeUnit.MILLISECONDS), true);
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        meterRegistry.timer("profile.mongo.pool.wait", "result", "success")
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        meterRegistry.timer("profile.mongo.pool.wait", "result", event.getReason().name().toLowerCase(Locale.ROOT))
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Obtiene los comandos lentos capturados, del más reciente al más antiguo.
+     *
+     * @return copia del buffer de comandos lentos
+     */
+    public List<SlowMongoCommand> getSlowCommands() {
+        synchronized (slowCommands) {
+            return new ArrayList<>(slowCommands);
+        }
+    }
+
+    /**
+     * Vacía el buffer de comandos lentos.
+     */
+    public void clearSlowCommands() {
+        synchronized (slowCommands) {
+            slowCommands.clear();
+        }
+    }
+
+    private void completed(int requestId, String database, String commandName, long elapsedMillis, boolean failed) {
+        StartedCommand started = inFlight.remove(requestId);
+        if (started == null || elapsedMillis < slowThreshold.toMillis()) {
+            return;
+        }
+
+        SlowMongoCommand slow = new SlowMongoCommand(started.startedAt(), database, started.collection(),
+                commandName, elapsedMillis, failed, started.filterShape(), null);
+        log.debug("Comando {} lento sobre {} ({} ms): {}", commandName, started.collection(), elapsedMillis,
+                started.filterShape());
+
+        if (started.command() != null && !failed && explainPermit.tryAcquire()) {
+            Thread.ofVirtual().name("mongo-slow-command-explain").start(() -> {
+                try {
+                    capture(slow.withPlan(explain(database, started.command())));
+                } catch (RuntimeException e) {
+                    log.debug("No fue posible obtener el plan del comando {}: {}", commandName, e.getMessage());
+                    capture(slow);
+                } finally {
+                    explainPermit.release();
+                }
+            });
+        } else {
+            capture(slow);
+        }
+    }
+
+    private void capture(SlowMongoCommand slow) {
+        synchronized (slowCommands) {
+            slowCommands.addFirst(slow);
+            while (slowCommands.size() > capacity) {
+                slowCommands.removeLast();
+            }
+        }
+    }
+
+    private Map<String, Object> explain(String database, BsonDocument command) {
+        BsonDocument explained = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !SESSION_FIELDS.contains(key)) {
+                explained.put(key, value);
+            }
+        });
+        Document result = mongoTemplate.getObject().getMongoDatabaseFactory().getMongoDatabase(database)
+                .runCommand(new BsonDocument("explain", explained).append("verbosity", new BsonString("queryPlanner")));
+        Document queryPlanner = result.get("queryPlanner", Document.class);
+        return queryPlanner != null ? redactPlan(queryPlanner) : null;
+    }
+
+    /**
+     * Copia del plan sin la consulta interpretada y con los valores de los filtros y de los
+     * límites de índice reemplazados por "?".
+     */
+    static Map<String, Object> redactPlan(Map<String, ?> plan) {
+        Map<String, Object> redacted = new LinkedHashMap<>();
+        plan.forEach((key, value) -> {
+            if ("parsedQuery".equals(key)) {
+                return;
+            }
+            redacted.put(key, PLAN_VALUE_FIELDS.contains(key) ? redactValues(value) : redactStages(value));
+        });
+        return redacted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object redactStages(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return redactPlan((Map<String, ?>) map);
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(MongoCommandMonitor::redactStages).toList();
+        }
+        return value;
+    }
+
+    /**
+     * Equivalente de {@link #shape(BsonValue)} para los documentos ya decodificados del plan.
+     */
+    private static Object redactValues(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> shaped = new LinkedHashMap<>();
+            map.forEach((key, nested) -> shaped.put(String.valueOf(key), redactValues(nested)));
+            return shaped;
+        }
+        if (value instanceof List<?> list) {
+            return list.isEmpty() ? List.of() : List.of(redactValues(list.get(0)));
+        }
+        return PLACEHOLDER.getValue();
+    }
+
+    /**
+     * Forma del filtro del comando. En los pipelines se conserva la forma de cada etapa y en
+     * update y delete la del filtro de la primera sentencia.
+     */
+    static String filterShape(String commandName, BsonValue filter) {
+        if (filter == null) {
+            return null;
+        }
+        BsonValue shape = switch (commandName) {
+            case "aggregate" -> filter.isArray()
+                    ? new BsonArray(filter.asArray().stream().map(MongoCommandMonitor::shape).toList())
+                    : shape(filter);
+            case "update", "delete" -> filter.isArray() && !filter.asArray().isEmpty()
+                    && filter.asArray().get(0).isDocument()
+                    ? shape(filter.asArray().get(0).asDocument().get("q", new BsonDocument()))
+                    : shape(filter);
+            default -> shape(filter);
+        };
+        return toJson(shape);
+    }
+
+    /**
+     * Representación JSON de una forma: documento, arreglo o el marcador "?".
+     */
+    private static String toJson(BsonValue shape) {
+        if (shape.isDocument()) {
+            return shape.asDocument().toJson();
+        }
+        if (shape.isArray()) {
+            return shape.asArray().stream().map(MongoCommandMonitor::toJson)
+                    .collect(Collectors.joining(", ", "[", "]"));
+        }
+        return "\"" + PLACEHOLDER.getValue() + "\"";
+    }
+
+    /**
+     * Reemplaza los valores por "?" conservando los nombres de campo y operadores.
+     * Los arreglos se reducen a la forma de su primer elemento.
+     */
+    private static BsonValue shape(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument shaped = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> shaped.put(key, shape(nested)));
+            return shaped;
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            return array.isEmpty() ? new BsonArray() : new BsonArray(List.of(shape(array.get(0))));
+        }
+        return PLACEHOLDER;
+    }
+}
@@ -1,12 +1,25 @@
 package com.udeajobs.profile.profile_service.config;
 
+import com.mongodb.ReadPreference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Configuración de MongoDB para la aplicación.
  * Habilita repositorios MongoDB y auditoría de entidades.
+ * <p>
+ * Las escrituras y las lecturas que preceden a una escritura usan siempre el primario.
+ * Las lecturas de solo consulta (perfil, secciones, lote, búsquedas y exportación) usan
+ * la preferencia de lectura configurada en profile.mongo.read, de modo que pueden
+ * repartirse entre los secundarios del replica set.
  *
  * @author UdeAJobs Team
  * @version 1.0
@@ -16,5 +29,38 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
 @EnableMongoAuditing
 public class MongoConfig {
 
-}
+    /**
+     * Registra el monitor de comandos y del pool de conexiones en el cliente de MongoDB.
+     *
+     * @param mongoCommandMonitor monitor de comandos lentos y espera del pool
+     * @return personalizador de la configuración del cliente
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMonitorCustomizer(MongoCommandMonitor mongoCommandMonitor) {
+        return settings -> settings
+                .addCommandListener(mongoCommandMonitor)
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(mongoCommandMonitor));
+    }
 
+    /**
+     * Preferencia de lectura de las consultas de solo lectura.
+     * Con una preferencia distinta de primary puede indicarse el retraso máximo admitido
+     * de un secundario (MongoDB exige al menos 90 segundos); cero lo deja sin límite.
+     *
+     * @param mode modo de la preferencia (primary, primaryPreferred, secondary, secondaryPreferred, nearest)
+     * @param maxStaleness retraso máximo admitido de los secundarios
+     * @return preferencia de lectura para las consultas de solo lectura
+     */
+    @Bean
+    public ReadPreference profileReadPreference(
+            @Value("${profile.mongo.read.preference:primary}") String mode,
+            @Value("${profile.mongo.read.max-staleness:0s}") Duration maxStaleness) {
+        if ("primary".equalsIgnoreCase(mode)) {
+            return ReadPreference.primary();
+        }
+        if (maxStaleness.isZero()) {
+            return ReadPreference.valueOf(mode);
+        }
+        return ReadPreference.valueOf(mode, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+}
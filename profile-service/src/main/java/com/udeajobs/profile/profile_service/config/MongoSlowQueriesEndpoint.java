@@ -0,0 +1,42 @@
+package com.udeajobs.profile.profile_service.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Endpoint de actuator ("mongoslowqueries") con los comandos de MongoDB que superaron
+ * el umbral de lentitud, capturados por {@link MongoCommandMonitor}.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "mongoslowqueries")
+public class MongoSlowQueriesEndpoint {
+
+    private final MongoCommandMonitor mongoCommandMonitor;
+
+    /**
+     * Lista los comandos lentos capturados, del más reciente al más antiguo.
+     *
+     * @return comandos lentos
+     */
+    @ReadOperation
+    public List<SlowMongoCommand> slowQueries() {
+        return mongoCommandMonitor.getSlowCommands();
+    }
+
+    /**
+     * Vacía el buffer de comandos lentos.
+     */
+    @DeleteOperation
+    public void clear() {
+        mongoCommandMonitor.clearSlowCommands();
+    }
+}
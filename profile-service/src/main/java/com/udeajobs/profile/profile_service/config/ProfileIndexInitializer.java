@@ -0,0 +1,183 @@
+package com.udeajobs.profile.profile_service.config;
+
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Crea los índices de la colección de perfiles al arrancar la aplicación.
+ * La creación es idempotente (createIndexes no hace nada si el índice ya existe con
+ * la misma definición) y se ejecuta en un hilo aparte para no retrasar el arranque;
+ * mientras tanto el estado de cada índice queda disponible para el indicador de salud.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileIndexInitializer {
+
+    /**
+     * Nombre del índice de texto de la colección
+     */
+    public static final String TEXT_INDEX = "profiles_text";
+
+    /**
+     * Idioma del índice de texto, que determina el stemming y las palabras vacías
+     */
+    public static final String TEXT_LANGUAGE = "spanish";
+
+    /**
+     * Índices requeridos, indexados por nombre
+     */
+    public static final Map<String, IndexDefinition> REQUIRED_INDEXES = requiredIndexes();
+
+    /**
+     * Índices de versiones anteriores que ya no se usan y se eliminan al arrancar
+     */
+    public static final Set<String> OBSOLETE_INDEXES = Set.of("habilidades_nombre_nivel");
+
+    private final MongoTemplate mongoTemplate;
+    private final ProfileRepository profileRepository;
+
+    private final Map<String, IndexStatus> statuses = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Estado de creación de un índice
+     */
+    public enum IndexStatus {
+        PENDING, READY, FAILED
+    }
+
+    /**
+     * Lanza la creación de los índices en segundo plano cuando la aplicación está lista.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        REQUIRED_INDEXES.keySet().forEach(name -> statuses.put(name, IndexStatus.PENDING));
+        Thread.ofVirtual().name("profile-index-initializer").start(this::ensureIndexes);
+    }
+
+    /**
+     * Obtiene el estado de creación de cada índice requerido.
+     *
+     * @return copia del estado actual por nombre de índice
+     */
+    public Map<String, IndexStatus> getStatuses() {
+        synchronized (statuses) {
+            return new LinkedHashMap<>(statuses);
+        }
+    }
+
+    private void ensureIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Profile.class);
+        REQUIRED_INDEXES.forEach((name, definition) -> {
+            try {
+                indexOps.ensureIndex(definition);
+                statuses.put(name, IndexStatus.READY);
+                log.info("Índice {} disponible en la colección de perfiles", name);
+            } catch (RuntimeException e) {
+                statuses.put(name, IndexStatus.FAILED);
+                log.error("No fue posible crear el índice {}: {}", name, e.getMessage());
+            }
+        });
+        dropObsoleteIndexes(indexOps);
+        normalizeSkillNames();
+    }
+
+    private void dropObsoleteIndexes(IndexOperations indexOps) {
+        try {
+            indexOps.getIndexInfo().stream()
+                    .map(IndexInfo::getName)
+                    .filter(OBSOLETE_INDEXES::contains)
+                    .forEach(name -> {
+                        indexOps.dropIndex(name);
+                        log.info("Índice obsoleto {} eliminado de la colección de perfiles", name);
+                    });
+        } catch (RuntimeException e) {
+            log.warn("No fue posible eliminar los índices obsoletos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Completa el nombre normalizado de las habilidades guardadas antes de que existiera el campo,
+     * para que la búsqueda por habilidades en MongoDB las encuentre.
+     */
+    private void normalizeSkillNames() {
+        try {
+            long updated = profileRepository.normalizeSkillNames();
+            if (updated > 0) {
+                log.info("Nombre normalizado completado en las habilidades de {} perfiles", updated);
+            }
+        } catch (RuntimeException e) {
+            log.warn("No fue posible normalizar los nombres de las habilidades: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, IndexDefinition> requiredIndexes() {
+        Map<String, IndexDefinition> indexes = new LinkedHashMap<>();
+        // Con _id al final, la búsqueda por habilidad se pagina por cursor sin ordenar en memoria
+        indexes.put("habilidades_nombreNormalizado_nivel", new Index()
+                .on("habilidades.nombreNormalizado", Sort.Direction.ASC)
+                .on("habilidades.nivel", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("habilidades_nombreNormalizado_nivel")
+                .background());
+        indexes.put("metadata_perfilCompleto", new Index()
+                .on("metadata.perfilCompleto", Sort.Direction.ASC)
+                .named("metadata_perfilCompleto")
+                .background());
+        indexes.put("metadata_ultimaActualizacion", new Index()
+                .on("metadata.ultimaActualizacion", Sort.Direction.DESC)
+                .named("metadata_ultimaActualizacion")
+                .background());
+        // Único solo entre los perfiles que tienen email, para no chocar con documentos sin él
+        indexes.put("informacionPersonal_email", new Index()
+                .on("informacionPersonal.email", Sort.Direction.ASC)
+                .unique()
+                .partial(PartialIndexFilter.of(Criteria.where("informacionPersonal.email")
+                        .type(JsonSchemaObject.Type.stringType())))
+                .named("informacionPersonal_email")
+                .background());
+        indexes.put("informacionPersonal_ubicacion", new Index()
+                .on("informacionPersonal.ubicacion.ciudad", Sort.Direction.ASC)
+                .on("informacionPersonal.ubicacion.pais", Sort.Direction.ASC)
+                .named("informacionPersonal_ubicacion")
+                .background());
+        // Solo contiene los perfiles con eventos pendientes de publicar
+        indexes.put("outbox_pending", new Index()
+                .on("outbox.occurredAt", Sort.Direction.ASC)
+                .sparse()
+                .named("outbox_pending")
+                .background());
+        // Índice de texto en español (con stemming) ponderado por la relevancia de cada campo
+        indexes.put(TEXT_INDEX, TextIndexDefinition.builder()
+                .onField("informacionPersonal.tituloProfesional", 10F)
+                .onField("informacionPersonal.resumen", 5F)
+                .onField("experienciaLaboral.descripcion", 2F)
+                .withDefaultLanguage(TEXT_LANGUAGE)
+                .named(TEXT_INDEX)
+                .build());
+        return Collections.unmodifiableMap(indexes);
+    }
+}
@@ -0,0 +1,59 @@
+package com.udeajobs.profile.profile_service.config;
+
+import com.udeajobs.profile.profile_service.entity.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Indicador de salud de los índices de la colección de perfiles ("profileIndexes").
+ * Forma parte del grupo de readiness: la instancia no se considera lista hasta que
+ * todos los índices requeridos existen. Un índice en construcción se reporta como
+ * OUT_OF_SERVICE y uno ausente o cuya creación falló como DOWN.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileIndexesHealthIndicator implements HealthIndicator {
+
+    private final MongoTemplate mongoTemplate;
+    private final ProfileIndexInitializer indexInitializer;
+
+    @Override
+    public Health health() {
+        // listIndexes solo devuelve los índices cuya construcción ya terminó
+        Set<String> existing = mongoTemplate.indexOps(Profile.class).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+        Map<String, ProfileIndexInitializer.IndexStatus> statuses = indexInitializer.getStatuses();
+
+        Map<String, String> details = new LinkedHashMap<>();
+        boolean building = false;
+        boolean missing = false;
+        for (String name : ProfileIndexInitializer.REQUIRED_INDEXES.keySet()) {
+            ProfileIndexInitializer.IndexStatus status = statuses.get(name);
+            if (existing.contains(name)) {
+                details.put(name, "READY");
+            } else if (status == null || status == ProfileIndexInitializer.IndexStatus.PENDING) {
+                details.put(name, "BUILDING");
+                building = true;
+            } else {
+                details.put(name, "MISSING");
+                missing = true;
+            }
+        }
+
+        Health.Builder builder = missing ? Health.down() : building ? Health.outOfService() : Health.up();
+        return builder.withDetails(details).build();
+    }
+}
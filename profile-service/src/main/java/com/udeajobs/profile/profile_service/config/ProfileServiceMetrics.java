@@ -0,0 +1,164 @@
+package com.udeajobs.profile.profile_service.config;
+
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Métricas de latencia de la capa de servicio y de tamaño de los perfiles.
+ * <p>
+ * Cada operación pública de los servicios se mide en {@value #OPERATION_TIMER} y, dentro
+ * de ella, el tiempo de cada fase en {@value #PHASE_TIMER}: llamadas al repositorio
+ * (MongoDB), a los mappers y la serialización JSON realizada por el servicio. Las fases
+ * se etiquetan con la operación en curso, de modo que puede compararse el tiempo de base
+ * de datos con el de mapeo y serialización de cada operación. Los histogramas de
+ * percentiles se activan por configuración (management.metrics.distribution.*).
+ * <p>
+ * Además registra el tamaño serializado de los perfiles y el número de elementos por
+ * sección, para relacionar el crecimiento de los perfiles con la latencia.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ProfileServiceMetrics {
+
+    /**
+     * Duración total de cada operación de servicio
+     */
+    public static final String OPERATION_TIMER = "profile.service.operation";
+
+    /**
+     * Duración de cada fase dentro de una operación de servicio
+     */
+    public static final String PHASE_TIMER = "profile.service.phase";
+
+    /**
+     * Fase de acceso al repositorio
+     */
+    public static final String REPOSITORY_PHASE = "repository";
+
+    /**
+     * Fase de conversión entre entidades y DTOs
+     */
+    public static final String MAPPER_PHASE = "mapper";
+
+    /**
+     * Fase de serialización JSON
+     */
+    public static final String SERIALIZATION_PHASE = "serialization";
+
+    private static final String NO_OPERATION = "none";
+
+    private static final ThreadLocal<String> CURRENT_OPERATION = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Mide una operación de servicio y la registra como operación en curso para sus fases.
+     */
+    @Around("execution(public * com.udeajobs.profile.profile_service.service.*Impl.*(..))")
+    public Object timeOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        String previous = CURRENT_OPERATION.get();
+        CURRENT_OPERATION.set(operation);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(OPERATION_TIMER, "operation", operation, "exception", exception));
+            if (previous != null) {
+                CURRENT_OPERATION.set(previous);
+            } else {
+                CURRENT_OPERATION.remove();
+            }
+        }
+    }
+
+    /**
+     * Mide las llamadas al repositorio de perfiles.
+     */
+    @Around("execution(public * com.udeajobs.profile.profile_service.repository.ProfileRepository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePhase(REPOSITORY_PHASE, joinPoint);
+    }
+
+    /**
+     * Mide las llamadas a los mappers.
+     */
+    @Around("execution(public * com.udeajobs.profile.profile_service.mapper.*.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timePhase(MAPPER_PHASE, joinPoint);
+    }
+
+    /**
+     * Obtiene el temporizador de una fase para la operación en curso, para las fases
+     * que el servicio mide directamente, como la serialización.
+     *
+     * @param phase nombre de la fase
+     * @return temporizador de la fase
+     */
+    public Timer phaseTimer(String phase) {
+        String operation = CURRENT_OPERATION.get();
+        return meterRegistry.timer(PHASE_TIMER, "operation", operation != null ? operation : NO_OPERATION,
+                "phase", phase);
+    }
+
+    /**
+     * Registra el número de elementos de cada sección de un perfil completo.
+     *
+     * @param profile perfil leído
+     */
+    public void recordDocument(Profile profile) {
+        recordItems(ProfileSection.HABILIDADES, profile.getHabilidades());
+        recordItems(ProfileSection.EXPERIENCIA_LABORAL, profile.getExperienciaLaboral());
+        recordItems(ProfileSection.EDUCACION, profile.getEducacion());
+        recordItems(ProfileSection.PORTAFOLIO, profile.getPortafolio());
+    }
+
+    /**
+     * Registra el tamaño serializado de un perfil completo.
+     *
+     * @param bytes tamaño del JSON en bytes
+     */
+    public void recordDocumentSize(int bytes) {
+        DistributionSummary.builder("profile.document.size")
+                .description("Tamaño del perfil completo serializado a JSON")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private void recordItems(ProfileSection section, List<?> items) {
+        DistributionSummary.builder("profile.document.items")
+                .description("Elementos por sección de los perfiles leídos")
+                .tag("section", section.getPath())
+                .register(meterRegistry)
+                .record(items != null ? items.size() : 0);
+    }
+
+    private Object timePhase(String phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sample.stop(phaseTimer(phase));
+        }
+    }
+}
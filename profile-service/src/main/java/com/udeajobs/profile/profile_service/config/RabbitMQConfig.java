@@ -1,6 +1,7 @@
 package com.udeajobs.profile.profile_service.config;
 
 
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
@@ -9,9 +10,14 @@ import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFacto
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
 
 
 @Configuration
@@ -19,22 +25,45 @@ public class RabbitMQConfig {
     public static final String EXCHANGE_NAME = "account.exchange";
     public static final String QUEUE_NAME = "creation_profile.queue";
     public static final String ROUTING_KEY = "user.verified";
+    public static final String LISTENER_ID = "profileCreatedListener";
+    public static final String PROFILE_EXCHANGE_NAME = "profile.exchange";
+    public static final String DEAD_LETTER_QUEUE_NAME = "creation_profile.dlq";
 
     @Bean
     public Queue queue() {
         return new Queue(QUEUE_NAME, true);
     }
 
+    /**
+     * Cola en la que se dejan los eventos de cuentas verificadas cuyo perfil base no pudo
+     * crearse por un conflicto permanente, como un email ya registrado en otro perfil,
+     * para revisarlos sin bloquear la cola principal.
+     */
+    @Bean
+    public Queue deadLetterQueue() {
+        return new Queue(DEAD_LETTER_QUEUE_NAME, true);
+    }
+
     @Bean
     public TopicExchange exchange() {
         return new TopicExchange(EXCHANGE_NAME);
     }
 
     @Bean
-    public Binding binding(Queue queue, TopicExchange exchange) {
+    public Binding binding(@Qualifier("queue") Queue queue, @Qualifier("exchange") TopicExchange exchange) {
         return BindingBuilder.bind(queue).to(exchange).with(ROUTING_KEY);
     }
 
+    /**
+     * Exchange en el que se publican los eventos de cambio de perfil.
+     * Las claves de enrutamiento siguen el formato profile.&lt;sección&gt;.&lt;tipo&gt;,
+     * por ejemplo profile.skills.created o profile.profile.created.
+     */
+    @Bean
+    public TopicExchange profileExchange() {
+        return new TopicExchange(PROFILE_EXCHANGE_NAME);
+    }
+
     @Bean
     public RabbitAdmin rabbitAdmin(ConnectionFactory connectionFactory) {
         return new RabbitAdmin(connectionFactory);
@@ -51,15 +80,54 @@ public class RabbitMQConfig {
         return new Jackson2JsonMessageConverter();
     }
 
+    /**
+     * Contenedor de listeners en modo lote: el consumidor agrupa hasta {@code batchSize}
+     * mensajes, o los recibidos durante {@code receiveTimeout}, y los entrega juntos al
+     * listener. Con acuse AUTO el lote completo se confirma cuando el listener termina
+     * sin error, es decir, después de la escritura en MongoDB; si falla, se reencola.
+     * <p>
+     * El número de consumidores arranca en {@code concurrency} y escala hasta
+     * {@code maxConcurrency} según la carga. Opcionalmente cada consumidor corre sobre
+     * un hilo virtual.
+     */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
-            Jackson2JsonMessageConverter converter
+            Jackson2JsonMessageConverter converter,
+            @Value("${profile.events.batch-size:100}") int batchSize,
+            @Value("${profile.events.receive-timeout:1s}") Duration receiveTimeout,
+            @Value("${profile.events.concurrency:1}") int concurrency,
+            @Value("${profile.events.max-concurrency:4}") int maxConcurrency,
+            @Value("${profile.events.prefetch:250}") int prefetch,
+            @Value("${profile.events.virtual-threads:false}") boolean virtualThreads
     ) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(converter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConsumers(concurrency, maxConcurrency));
+        // El prefetch debe cubrir al menos un lote completo
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("profile-events-"));
+        }
         return factory;
     }
 
+    /**
+     * Número máximo efectivo de consumidores del listener: la propiedad max-concurrency
+     * nunca queda por debajo de los consumidores iniciales.
+     *
+     * @param concurrency consumidores iniciales
+     * @param maxConcurrency máximo configurado
+     * @return máximo de consumidores con el que se configura el contenedor
+     */
+    public static int maxConsumers(int concurrency, int maxConcurrency) {
+        return Math.max(Math.max(concurrency, maxConcurrency), 1);
+    }
 }
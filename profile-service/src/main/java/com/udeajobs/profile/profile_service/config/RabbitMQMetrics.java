@@ -0,0 +1,133 @@
+package com.udeajobs.profile.profile_service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métricas del consumo de eventos de cuentas verificadas.
+ * Expone el número de consumidores activos y su utilización respecto al máximo efectivo
+ * del contenedor, la profundidad de la cola (mensajes pendientes y consumidores registrados
+ * en el broker) y el retraso estimado de consumo: el tiempo que tardarían los consumidores
+ * en vaciar la cola al ritmo del último intervalo.
+ * <p>
+ * La cola se consulta en el broker cada {@code profile.events.queue-metrics-interval} y las
+ * métricas publican el último valor obtenido, por lo que un scrape no hace peticiones al broker.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RabbitMQMetrics implements MeterBinder {
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final RabbitAdmin rabbitAdmin;
+
+    @Value("${profile.events.concurrency:1}")
+    private int concurrency;
+
+    @Value("${profile.events.max-concurrency:4}")
+    private int maxConcurrency;
+
+    private volatile QueueInformation queueInfo;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile Counter received;
+    private double lastReceived = Double.NaN;
+    private long lastRefreshNanos;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        received = Counter.builder("profile.events.received").register(registry);
+
+        Gauge.builder("profile.events.consumers.active", this, RabbitMQMetrics::activeConsumers)
+                .description("Consumidores activos del listener de cuentas verificadas")
+                .register(registry);
+
+        Gauge.builder("profile.events.consumers.utilization", this,
+                        metrics -> metrics.activeConsumers() / RabbitMQConfig.maxConsumers(concurrency, maxConcurrency))
+                .description("Consumidores activos respecto al máximo efectivo del contenedor")
+                .register(registry);
+
+        Gauge.builder("profile.events.queue.depth", this, queueInfo(QueueInformation::getMessageCount))
+                .description("Mensajes pendientes en la cola de creación de perfiles")
+                .tag("queue", RabbitMQConfig.QUEUE_NAME)
+                .register(registry);
+
+        Gauge.builder("profile.events.queue.consumers", this, queueInfo(QueueInformation::getConsumerCount))
+                .description("Consumidores registrados en el broker para la cola de creación de perfiles")
+                .tag("queue", RabbitMQConfig.QUEUE_NAME)
+                .register(registry);
+
+        Gauge.builder("profile.events.queue.lag", this, metrics -> metrics.lagSeconds)
+                .description("Tiempo estimado para vaciar la cola al ritmo de consumo del último intervalo")
+                .tag("queue", RabbitMQConfig.QUEUE_NAME)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * Consulta la cola en el broker y recalcula el retraso estimado con los eventos consumidos
+     * desde la consulta anterior. Con mensajes pendientes y sin consumo el retraso es infinito;
+     * si el broker no está disponible las métricas de la cola se reportan como NaN.
+     */
+    @Scheduled(fixedDelayString = "${profile.events.queue-metrics-interval:15s}")
+    public void refreshQueueInfo() {
+        Counter counter = received;
+        if (counter == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        double consumed = counter.count();
+        try {
+            queueInfo = rabbitAdmin.getQueueInfo(RabbitMQConfig.QUEUE_NAME);
+        } catch (RuntimeException e) {
+            log.debug("No fue posible consultar la cola {}: {}", RabbitMQConfig.QUEUE_NAME, e.getMessage());
+            queueInfo = null;
+        }
+
+        QueueInformation info = queueInfo;
+        if (info == null) {
+            lagSeconds = Double.NaN;
+        } else if (info.getMessageCount() == 0) {
+            lagSeconds = 0;
+        } else if (!Double.isNaN(lastReceived)) {
+            double rate = (consumed - lastReceived) / ((now - lastRefreshNanos) / 1e9);
+            lagSeconds = rate > 0 ? info.getMessageCount() / rate : Double.POSITIVE_INFINITY;
+        }
+        lastReceived = consumed;
+        lastRefreshNanos = now;
+    }
+
+    private double activeConsumers() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(RabbitMQConfig.LISTENER_ID);
+        if (container instanceof SimpleMessageListenerContainer simple) {
+            return simple.getActiveConsumerCount();
+        }
+        return 0;
+    }
+
+    /**
+     * Valor de la última consulta de la cola, o NaN si no se pudo obtener.
+     */
+    private static ToDoubleFunction<RabbitMQMetrics> queueInfo(ToDoubleFunction<QueueInformation> value) {
+        return metrics -> {
+            QueueInformation info = metrics.queueInfo;
+            return info != null ? value.applyAsDouble(info) : Double.NaN;
+        };
+    }
+}
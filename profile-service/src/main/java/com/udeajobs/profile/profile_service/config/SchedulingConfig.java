@@ -0,0 +1,16 @@
+package com.udeajobs.profile.profile_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita la ejecución de tareas programadas (@Scheduled), como el refresco
+ * periódico del índice de habilidades.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
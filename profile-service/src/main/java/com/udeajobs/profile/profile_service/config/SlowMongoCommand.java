@@ -0,0 +1,40 @@
+package com.udeajobs.profile.profile_service.config;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Comando de MongoDB que superó el umbral de lentitud.
+ *
+ * @param startedAt momento en que se envió el comando
+ * @param database base de datos del comando
+ * @param collection colección sobre la que actuó el comando
+ * @param command nombre del comando (find, aggregate, update...)
+ * @param durationMillis duración del comando en milisegundos
+ * @param failed indica si el comando terminó con error
+ * @param filterShape forma del filtro o del pipeline, con los valores reemplazados por "?"
+ * @param plan plan de ejecución (queryPlanner) obtenido con explain, sin los valores de la consulta;
+ *             nulo si no se solicitó
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record SlowMongoCommand(LocalDateTime startedAt,
+                               String database,
+                               String collection,
+                               String command,
+                               long durationMillis,
+                               boolean failed,
+                               String filterShape,
+                               Map<String, Object> plan) {
+
+    /**
+     * Copia del comando con su plan de ejecución.
+     *
+     * @param plan plan de ejecución del comando
+     * @return comando con el plan
+     */
+    public SlowMongoCommand withPlan(Map<String, Object> plan) {
+        return new SlowMongoCommand(startedAt, database, collection, command, durationMillis, failed, filterShape, plan);
+    }
+}
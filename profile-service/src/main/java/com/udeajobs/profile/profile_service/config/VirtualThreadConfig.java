@@ -0,0 +1,34 @@
+package com.udeajobs.profile.profile_service.config;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del modo de hilos virtuales (spring.threads.virtual.enabled=true).
+ * En este modo Tomcat, las tareas asíncronas y los listeners de RabbitMQ se ejecutan
+ * sobre hilos virtuales, y se registran métricas a partir de los eventos JFR
+ * jdk.VirtualThreadPinned y jdk.VirtualThreadSubmitFailed para detectar hilos
+ * virtuales bloqueados sobre su hilo portador (jvm.threads.virtual.pinned).
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Registra las métricas de hilos virtuales basadas en JFR.
+     *
+     * @return binder de métricas de hilos virtuales
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+}
@@ -0,0 +1,53 @@
+package com.udeajobs.profile.profile_service.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Excluye la autoconfiguración del driver reactivo de MongoDB cuando la aplicación no se
+ * ejecuta con la pila reactiva (spring.main.web-application-type distinto de reactive).
+ * Las dependencias de WebFlux y del driver reactivo están siempre en el classpath, por lo
+ * que sin esta exclusión la pila servlet crearía un segundo cliente de MongoDB, con su
+ * propio pool de conexiones, que no usa. Se conservan las exclusiones ya configuradas.
+ * Se registra en META-INF/spring.factories.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public class WebStackEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+
+    /**
+     * Autoconfiguraciones del driver reactivo de MongoDB
+     */
+    private static final List<String> REACTIVE_MONGO_AUTO_CONFIGURATIONS = List.of(
+            "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Binder binder = Binder.get(environment);
+        WebApplicationType webStack = binder.bind("spring.main.web-application-type", WebApplicationType.class)
+                .orElse(application.getWebApplicationType());
+        if (webStack == WebApplicationType.REACTIVE) {
+            return;
+        }
+
+        List<String> excluded = new ArrayList<>(binder.bind(EXCLUDE_PROPERTY, Bindable.listOf(String.class))
+                .orElse(List.of()));
+        REACTIVE_MONGO_AUTO_CONFIGURATIONS.stream().filter(name -> !excluded.contains(name)).forEach(excluded::add);
+        environment.getPropertySources().addFirst(new MapPropertySource("profileWebStack",
+                Map.of(EXCLUDE_PROPERTY, String.join(",", excluded))));
+    }
+}
@@ -0,0 +1,50 @@
+package com.udeajobs.profile.profile_service.controller;
+
+import com.udeajobs.profile.profile_service.exception.AdminAccessDeniedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Control de acceso de las operaciones administrativas masivas, compartido por los
+ * controladores de las pilas servlet y reactiva.
+ * <p>
+ * Las operaciones solo están disponibles si se configura {@code profile.admin.token}; sin
+ * él responden 404 como una ruta inexistente. Con él, cada petición debe enviar la cabecera
+ * {@code Authorization: Bearer <token>}, que se compara en tiempo constante.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Component
+public class AdminAccess {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] token;
+
+    public AdminAccess(@Value("${profile.admin.token:}") String token) {
+        this.token = token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Comprueba la credencial de una petición administrativa.
+     *
+     * @param authorization valor de la cabecera Authorization, nulo si no se envió
+     * @throws AdminAccessDeniedException si las operaciones no están habilitadas o la credencial no es válida
+     */
+    public void check(String authorization) {
+        if (token == null) {
+            throw AdminAccessDeniedException.disabled();
+        }
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            throw AdminAccessDeniedException.invalidToken();
+        }
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(token, presented)) {
+            throw AdminAccessDeniedException.invalidToken();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.udeajobs.profile.profile_service.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Cabeceras de validación y codificación de las respuestas de perfil, compartidas por
+ * los controladores de las pilas servlet y reactiva.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public final class HttpCacheHeaders {
+
+    private HttpCacheHeaders() {
+    }
+
+    /**
+     * Indica si la cabecera Accept-Encoding admite gzip con calidad mayor que cero. Un
+     * comodín {@code *} cuenta como gzip si gzip no aparece de forma explícita.
+     *
+     * @param acceptEncoding valor de la cabecera Accept-Encoding
+     * @return true si el cliente acepta respuestas comprimidas con gzip
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                return hasPositiveQuality(parts);
+            }
+            if (name.equals("*")) {
+                wildcard = hasPositiveQuality(parts);
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean hasPositiveQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].replace(" ", "");
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                return !parameter.substring(2).matches("0(\\.0*)?");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula el ETag fuerte de un perfil a partir de su versión. Los perfiles anteriores
+     * al control de versiones usan la fecha de última actualización.
+     *
+     * @param version versión del perfil
+     * @param ultimaActualizacion fecha de última actualización
+     * @return ETag entre comillas, o null si el perfil no tiene ningún validador
+     */
+    public static String etagOf(Long version, LocalDateTime ultimaActualizacion) {
+        if (version != null) {
+            return "\"v" + version + "\"";
+        }
+        if (ultimaActualizacion != null) {
+            return "\"t" + lastModifiedOf(ultimaActualizacion) + "\"";
+        }
+        return null;
+    }
+
+    /**
+     * Convierte la fecha de última actualización a milisegundos epoch para Last-Modified.
+     *
+     * @param ultimaActualizacion fecha de última actualización
+     * @return milisegundos epoch, o -1 si no hay fecha
+     */
+    public static long lastModifiedOf(LocalDateTime ultimaActualizacion) {
+        if (ultimaActualizacion == null) {
+            return -1;
+        }
+        return ultimaActualizacion.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
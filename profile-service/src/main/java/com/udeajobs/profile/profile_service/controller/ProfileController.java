@@ -1,10 +1,12 @@
 package com.udeajobs.profile.profile_service.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.udeajobs.profile.profile_service.dto.request.*;
 import com.udeajobs.profile.profile_service.dto.response.*;
 import com.udeajobs.profile.profile_service.service.ProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,9 +15,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * Controlador REST para gestionar los perfiles de usuario.
@@ -26,22 +34,34 @@ import org.springframework.web.bind.annotation.*;
  */
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/")
 @RequiredArgsConstructor
 @Tag(name = "Profiles", description = "API para gestión completa de perfiles de usuario")
 public class ProfileController {
 
+    /**
+     * Tipo de contenido JSON Merge Patch (RFC 7396)
+     */
+    public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final ProfileService profileService;
 
     /**
      * Obtiene el perfil completo de un usuario.
+     * Soporta peticiones condicionales (If-None-Match / If-Modified-Since): los validadores
+     * se obtienen leyendo solo los metadatos del perfil y, si el cliente ya tiene la última
+     * versión, se responde 304 sin cargar, mapear ni serializar el documento completo.
+     * En otro caso el cuerpo se escribe tal cual desde la caché de perfiles serializados,
+     * comprimido con gzip si el cliente lo acepta.
      *
      * @param userId identificador del usuario
-     * @return perfil completo con código 200
+     * @param webRequest petición actual, usada para evaluar las cabeceras condicionales
+     * @return perfil completo serializado con código 200, o 304 si no ha cambiado
      */
     @Operation(
             summary = "Obtener perfil completo",
-            description = "Recupera toda la información del perfil de un usuario específico, incluyendo información personal, habilidades, experiencia laboral, educación y portafolio."
+            description = "Recupera toda la información del perfil de un usuario específico, incluyendo información personal, habilidades, experiencia laboral, educación y portafolio. Devuelve las cabeceras ETag y Last-Modified y responde 304 a peticiones condicionales cuando el perfil no ha cambiado."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -49,6 +69,11 @@ public class ProfileController {
                     description = "Perfil recuperado exitosamente",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "El perfil no ha cambiado desde la versión indicada por el cliente",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Perfil no encontrado para el userId especificado",
@@ -56,12 +81,147 @@ public class ProfileController {
             )
     })
     @GetMapping("/{userId}")
-    public ResponseEntity<ProfileResponse> getProfile(
+    public ResponseEntity<byte[]> getProfile(
             @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
-            @PathVariable String userId) {
+            @PathVariable String userId,
+            @Parameter(hidden = true) WebRequest webRequest) {
         log.info("GET /api/v1/profiles/{} - Obteniendo perfil", userId);
-        ProfileResponse profile = profileService.getProfile(userId);
-        return ResponseEntity.ok(profile);
+
+        ProfileVersionResponse version = profileService.getProfileVersion(userId);
+        if (webRequest.checkNotModified(
+                HttpCacheHeaders.etagOf(version.getVersion(), version.getUltimaActualizacion()),
+                HttpCacheHeaders.lastModifiedOf(version.getUltimaActualizacion()))) {
+            log.debug("Perfil {} sin cambios, respondiendo 304", userId);
+            return null;
+        }
+
+        SerializedProfile profile = profileService.getSerializedProfile(userId, version.getVersion());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(HttpCacheHeaders.etagOf(profile.version(), profile.ultimaActualizacion()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (profile.ultimaActualizacion() != null) {
+            response.lastModified(HttpCacheHeaders.lastModifiedOf(profile.ultimaActualizacion()));
+        }
+        if (profile.gzip() != null && HttpCacheHeaders.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(profile.gzip());
+        }
+        return response.body(profile.json());
+    }
+
+    /**
+     * Obtiene varios perfiles en una sola petición.
+     *
+     * @param request identificadores a consultar y secciones a incluir
+     * @return perfiles encontrados e identificadores no encontrados con código 200
+     */
+    @Operation(
+            summary = "Obtener perfiles en lote",
+            description = "Recupera hasta 100 perfiles con una única consulta, conservando el orden de los identificadores solicitados. Permite limitar las secciones devueltas; las secciones no solicitadas se devuelven como null. Los identificadores sin perfil se informan en missingIds en lugar de producir un 404."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Perfiles recuperados exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ProfileBatchResponse> getProfiles(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Identificadores de los perfiles y secciones a incluir",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = ProfileBatchRequest.class))
+            )
+            @Valid @RequestBody ProfileBatchRequest request) {
+
+        log.info("POST /api/v1/profiles/batch - Obteniendo {} perfiles", request.getIds().size());
+        return ResponseEntity.ok(profileService.getProfiles(request));
+    }
+
+    /**
+     * Aplica varias operaciones sobre las secciones del perfil en una sola petición.
+     *
+     * @param userId identificador del usuario
+     * @param request operaciones a aplicar y versión esperada
+     * @return identificadores de los elementos afectados y nueva versión con código 200
+     */
+    @Operation(
+            summary = "Editar varias secciones del perfil",
+            description = "Aplica en orden hasta 50 operaciones ADD, UPDATE y DELETE sobre las secciones del perfil (personal-info solo admite UPDATE) con una única escritura. El valor de cada operación tiene la misma estructura y validaciones que el endpoint de su sección. Todas las operaciones se validan antes de aplicar ninguna y, si alguna falla, el perfil no se modifica. Devuelve el identificador del elemento afectado por cada operación (el generado en ADD) y la nueva versión del perfil. Si se indica expectedVersion y el perfil cambió, responde 409."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Operaciones aplicadas exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfilePatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Alguna operación no es válida",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o elemento no encontrado",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "El perfil no está en la versión esperada",
+                    content = @Content
+            )
+    })
+    @PatchMapping("/{userId}")
+    public ResponseEntity<ProfilePatchResponse> patchProfile(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Operaciones a aplicar y versión esperada del perfil",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = ProfilePatchRequest.class))
+            )
+            @Valid @RequestBody ProfilePatchRequest request) {
+
+        log.info("PATCH /api/v1/profiles/{} - Aplicando {} operaciones", userId, request.getOperations().size());
+        return ResponseEntity.ok(profileService.patchProfile(userId, request));
+    }
+
+    /**
+     * Obtiene la información personal del perfil.
+     * Solo se lee esta sección del documento mediante una proyección.
+     *
+     * @param userId identificador del usuario
+     * @return información personal con código 200
+     */
+    @Operation(
+            summary = "Obtener información personal",
+            description = "Recupera únicamente la sección de información personal del perfil, sin cargar el resto del documento."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Información personal recuperada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = InformacionPersonalResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/personal-info")
+    public ResponseEntity<InformacionPersonalResponse> getPersonalInfo(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/personal-info - Obteniendo información personal", userId);
+        return ResponseEntity.ok(profileService.getInformacionPersonal(userId));
     }
 
     /**
@@ -108,8 +268,82 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Modifica campos concretos de la información personal (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return información personal resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente la información personal",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json): solo se modifican los campos enviados y los campos con valor null se eliminan; ubicacion se combina campo a campo. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios. El email no es modificable."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = InformacionPersonalResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/personal-info", consumes = MERGE_PATCH_JSON)
+    public ResponseEntity<InformacionPersonalResponse> patchPersonalInfo(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Campos a modificar; los campos con valor null se eliminan",
+                    required = true,
+                    content = @Content(mediaType = MERGE_PATCH_JSON)
+            )
+            @RequestBody JsonNode patch) {
+
+        log.info("PATCH /api/v1/profiles/{}/personal-info - Modificando información personal", userId);
+        return ResponseEntity.ok(profileService.patchInformacionPersonal(userId, patch));
+    }
+
     // ==================== EXPERIENCIA LABORAL ====================
 
+    /**
+     * Obtiene la experiencia laboral del perfil.
+     * Solo se lee esta sección del documento mediante una proyección.
+     *
+     * @param userId identificador del usuario
+     * @return lista de experiencias laborales con código 200
+     */
+    @Operation(
+            summary = "Listar experiencia laboral",
+            description = "Recupera únicamente el historial de experiencia laboral del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Experiencia laboral recuperada exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ExperienciaLaboralResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/experience")
+    public ResponseEntity<List<ExperienciaLaboralResponse>> getExperience(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/experience - Obteniendo experiencia laboral", userId);
+        return ResponseEntity.ok(profileService.getExperienciaLaboral(userId));
+    }
+
     /**
      * Añade una nueva experiencia laboral al perfil.
      *
@@ -201,6 +435,52 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Modifica campos concretos de una experiencia laboral (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param experienceId identificador único de la experiencia
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return experiencia resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente experiencia laboral",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json) sobre la experiencia: solo se modifican los campos enviados y los campos con valor null se eliminan. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExperienciaLaboralResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o experiencia no encontrada",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/experience/{experienceId}", consumes = MERGE_PATCH_JSON)
+    public ResponseEntity<ExperienciaLaboralResponse> patchExperience(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId,
+            @Parameter(description = "Identificador único de la experiencia laboral", required = true, example = "exp-123")
+            @PathVariable String experienceId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Campos a modificar; los campos con valor null se eliminan",
+                    required = true,
+                    content = @Content(mediaType = MERGE_PATCH_JSON)
+            )
+            @RequestBody JsonNode patch) {
+
+        log.info("PATCH /api/v1/profiles/{}/experience/{} - Modificando experiencia", userId, experienceId);
+        return ResponseEntity.ok(profileService.patchExperienciaLaboral(userId, experienceId, patch));
+    }
+
     /**
      * Elimina una experiencia laboral del perfil.
      *
@@ -238,6 +518,37 @@ public class ProfileController {
 
     // ==================== HABILIDADES ====================
 
+    /**
+     * Obtiene las habilidades del perfil.
+     * Solo se lee esta sección del documento mediante una proyección.
+     *
+     * @param userId identificador del usuario
+     * @return lista de habilidades con código 200
+     */
+    @Operation(
+            summary = "Listar habilidades",
+            description = "Recupera únicamente las habilidades del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Habilidades recuperadas exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = HabilidadResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/skills")
+    public ResponseEntity<List<HabilidadResponse>> getSkills(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/skills - Obteniendo habilidades", userId);
+        return ResponseEntity.ok(profileService.getHabilidades(userId));
+    }
+
     /**
      * Añade una nueva habilidad al perfil.
      *
@@ -319,6 +630,37 @@ public class ProfileController {
 
     // ==================== EDUCACIÓN ====================
 
+    /**
+     * Obtiene la formación académica del perfil.
+     * Solo se lee esta sección del documento mediante una proyección.
+     *
+     * @param userId identificador del usuario
+     * @return lista de educación con código 200
+     */
+    @Operation(
+            summary = "Listar educación",
+            description = "Recupera únicamente la formación académica del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Educación recuperada exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EducacionResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/education")
+    public ResponseEntity<List<EducacionResponse>> getEducation(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/education - Obteniendo educación", userId);
+        return ResponseEntity.ok(profileService.getEducacion(userId));
+    }
+
     /**
      * Añade una nueva educación al perfil.
      *
@@ -410,6 +752,52 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Modifica campos concretos de una educación (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param educationId identificador único de la educación
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return educación resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente educación",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json) sobre la educación: solo se modifican los campos enviados y los campos con valor null se eliminan. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EducacionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o educación no encontrada",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/education/{educationId}", consumes = MERGE_PATCH_JSON)
+    public ResponseEntity<EducacionResponse> patchEducation(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId,
+            @Parameter(description = "Identificador único de la educación", required = true, example = "edu-123")
+            @PathVariable String educationId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Campos a modificar; los campos con valor null se eliminan",
+                    required = true,
+                    content = @Content(mediaType = MERGE_PATCH_JSON)
+            )
+            @RequestBody JsonNode patch) {
+
+        log.info("PATCH /api/v1/profiles/{}/education/{} - Modificando educación", userId, educationId);
+        return ResponseEntity.ok(profileService.patchEducacion(userId, educationId, patch));
+    }
+
     /**
      * Elimina una educación del perfil.
      *
@@ -447,6 +835,37 @@ public class ProfileController {
 
     // ==================== PORTAFOLIO ====================
 
+    /**
+     * Obtiene los proyectos del portafolio.
+     * Solo se lee esta sección del documento mediante una proyección.
+     *
+     * @param userId identificador del usuario
+     * @return lista de proyectos con código 200
+     */
+    @Operation(
+            summary = "Listar portafolio",
+            description = "Recupera únicamente los proyectos del portafolio del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Portafolio recuperado exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = PortafolioResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/portfolio")
+    public ResponseEntity<List<PortafolioResponse>> getPortfolio(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/portfolio - Obteniendo portafolio", userId);
+        return ResponseEntity.ok(profileService.getPortafolio(userId));
+    }
+
     /**
      * Añade un nuevo proyecto al portafolio.
      *
@@ -538,6 +957,52 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Modifica campos concretos de un proyecto del portafolio (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param portfolioId identificador único del proyecto
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return proyecto resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente proyecto del portafolio",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json) sobre el proyecto: solo se modifican los campos enviados y los campos con valor null se eliminan. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortafolioResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o proyecto no encontrado",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/portfolio/{portfolioId}", consumes = MERGE_PATCH_JSON)
+    public ResponseEntity<PortafolioResponse> patchPortfolio(
+            @Parameter(description = "Identificador único del usuario", required = true, example = "usuario-uuid-abc-123")
+            @PathVariable String userId,
+            @Parameter(description = "Identificador único del proyecto", required = true, example = "port-123")
+            @PathVariable String portfolioId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Campos a modificar; los campos con valor null se eliminan",
+                    required = true,
+                    content = @Content(mediaType = MERGE_PATCH_JSON)
+            )
+            @RequestBody JsonNode patch) {
+
+        log.info("PATCH /api/v1/profiles/{}/portfolio/{} - Modificando proyecto", userId, portfolioId);
+        return ResponseEntity.ok(profileService.patchPortafolio(userId, portfolioId, patch));
+    }
+
     /**
      * Elimina un proyecto del portafolio.
      *
@@ -573,4 +1038,3 @@ public class ProfileController {
         return ResponseEntity.noContent().build();
     }
 }
-
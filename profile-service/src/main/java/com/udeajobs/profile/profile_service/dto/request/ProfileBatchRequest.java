@@ -0,0 +1,52 @@
+package com.udeajobs.profile.profile_service.dto.request;
+
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO de request para obtener varios perfiles en una sola petición.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Consulta de varios perfiles por sus identificadores")
+public class ProfileBatchRequest {
+
+    /**
+     * Identificadores de los usuarios a consultar
+     */
+    @ArraySchema(
+            schema = @Schema(description = "Identificador del usuario", example = "usuario-uuid-abc-123"),
+            minItems = 1,
+            maxItems = 100
+    )
+    @NotEmpty(message = "Debe indicar al menos un identificador de usuario")
+    @Size(max = 100, message = "No se pueden consultar más de 100 perfiles por petición")
+    private List<@NotBlank(message = "Los identificadores no pueden estar vacíos") String> ids;
+
+    /**
+     * Secciones a incluir en la respuesta (todas si se omite)
+     */
+    @ArraySchema(
+            schema = @Schema(
+                    description = "Sección del perfil a incluir",
+                    allowableValues = {"personal-info", "skills", "experience", "education", "portfolio"}
+            )
+    )
+    private Set<ProfileSection> sections;
+}
@@ -0,0 +1,172 @@
+package com.udeajobs.profile.profile_service.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.validator.constraints.URL;
+
+import java.util.List;
+
+/**
+ * DTO de request para una línea de la importación masiva de perfiles.
+ * Tiene la misma estructura que el perfil exportado, email incluido, por lo que una
+ * exportación puede importarse directamente; los campos de solo lectura (metadata,
+ * version) se ignoran. Las secciones de lista reutilizan las validaciones de su DTO de
+ * request y añaden el identificador del elemento, que se genera si se omite. La
+ * información personal solo valida el formato de sus campos, porque los perfiles base
+ * e incompletos también se exportan.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileImportRequest {
+
+    /**
+     * Identificador del usuario
+     */
+    @NotBlank(message = "El identificador del perfil es obligatorio")
+    @Size(max = 100, message = "El identificador del perfil no puede exceder 100 caracteres")
+    private String id;
+
+    /**
+     * Información personal del perfil
+     */
+    @Valid
+    private InformacionPersonalImport informacionPersonal;
+
+    /**
+     * Habilidades del perfil
+     */
+    private List<@Valid HabilidadImport> habilidades;
+
+    /**
+     * Experiencia laboral del perfil
+     */
+    private List<@Valid ExperienciaLaboralImport> experienciaLaboral;
+
+    /**
+     * Formación académica del perfil
+     */
+    private List<@Valid EducacionImport> educacion;
+
+    /**
+     * Portafolio del perfil
+     */
+    private List<@Valid PortafolioImport> portafolio;
+
+    /**
+     * Información personal importada. A diferencia de {@link InformacionPersonalRequest}
+     * ningún campo es obligatorio: un perfil base solo tiene nombre y email.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class InformacionPersonalImport {
+
+        /**
+         * Nombre completo del usuario
+         */
+        @Size(max = 150, message = "El nombre completo no puede exceder 150 caracteres")
+        private String nombreCompleto;
+
+        /**
+         * Título profesional del usuario
+         */
+        @Size(max = 200, message = "El título profesional no puede exceder 200 caracteres")
+        private String tituloProfesional;
+
+        /**
+         * Resumen o descripción del perfil profesional
+         */
+        @Size(max = 2000, message = "El resumen no puede exceder los 2000 caracteres")
+        private String resumen;
+
+        /**
+         * Ubicación geográfica del usuario
+         */
+        @Valid
+        private UbicacionRequest ubicacion;
+
+        /**
+         * URL de la foto de perfil
+         */
+        @URL(message = "La URL de la foto debe ser válida")
+        private String fotoUrl;
+
+        /**
+         * Email del usuario; si se omite se conserva el registrado
+         */
+        @Email(message = "El email debe ser válido")
+        private String email;
+    }
+
+    /**
+     * Habilidad importada con su identificador
+     */
+    @Data
+    @NoArgsConstructor
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class HabilidadImport extends HabilidadRequest {
+
+        /**
+         * Identificador de la habilidad dentro del perfil
+         */
+        private String id;
+    }
+
+    /**
+     * Experiencia laboral importada con su identificador
+     */
+    @Data
+    @NoArgsConstructor
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class ExperienciaLaboralImport extends ExperienciaLaboralRequest {
+
+        /**
+         * Identificador de la experiencia dentro del perfil
+         */
+        private String id;
+    }
+
+    /**
+     * Formación académica importada con su identificador
+     */
+    @Data
+    @NoArgsConstructor
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class EducacionImport extends EducacionRequest {
+
+        /**
+         * Identificador de la formación dentro del perfil
+         */
+        private String id;
+    }
+
+    /**
+     * Elemento de portafolio importado con su identificador
+     */
+    @Data
+    @NoArgsConstructor
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class PortafolioImport extends PortafolioRequest {
+
+        /**
+         * Identificador del elemento dentro del perfil
+         */
+        private String id;
+    }
+}
@@ -0,0 +1,56 @@
+package com.udeajobs.profile.profile_service.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.udeajobs.profile.profile_service.enums.PatchOperationType;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de request para una operación de una edición múltiple de perfil.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Operación sobre una sección del perfil")
+public class ProfilePatchOperation {
+
+    /**
+     * Operación a aplicar
+     */
+    @Schema(description = "Operación a aplicar", example = "ADD", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "La operación es obligatoria")
+    private PatchOperationType op;
+
+    /**
+     * Sección sobre la que se aplica la operación
+     */
+    @Schema(
+            description = "Sección del perfil",
+            example = "skills",
+            allowableValues = {"personal-info", "skills", "experience", "education", "portfolio"},
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotNull(message = "La sección es obligatoria")
+    private ProfileSection section;
+
+    /**
+     * Identificador del elemento a actualizar o eliminar
+     */
+    @Schema(description = "Identificador del elemento; obligatorio en UPDATE y DELETE salvo para personal-info", example = "exp-123")
+    private String itemId;
+
+    /**
+     * Contenido del elemento, con la misma estructura que el request del endpoint de la sección
+     */
+    @Schema(description = "Contenido del elemento para ADD y UPDATE, con la misma estructura que el endpoint de la sección", type = "object")
+    private JsonNode value;
+}
@@ -0,0 +1,46 @@
+package com.udeajobs.profile.profile_service.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de request para aplicar varias operaciones sobre un perfil en una sola petición.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Edición múltiple de un perfil")
+public class ProfilePatchRequest {
+
+    /**
+     * Operaciones a aplicar, en orden
+     */
+    @ArraySchema(
+            schema = @Schema(implementation = ProfilePatchOperation.class),
+            minItems = 1,
+            maxItems = 50
+    )
+    @NotEmpty(message = "Debe indicar al menos una operación")
+    @Size(max = 50, message = "No se pueden aplicar más de 50 operaciones por petición")
+    private List<@Valid @NotNull(message = "Las operaciones no pueden ser nulas") ProfilePatchOperation> operations;
+
+    /**
+     * Versión del perfil sobre la que se editó, para rechazar la edición si cambió entretanto
+     */
+    @Schema(description = "Versión esperada del perfil; si se indica y no coincide se responde 409", example = "7")
+    private Long expectedVersion;
+}
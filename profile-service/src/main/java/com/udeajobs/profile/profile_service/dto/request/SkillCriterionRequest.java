@@ -0,0 +1,47 @@
+package com.udeajobs.profile.profile_service.dto.request;
+
+import com.udeajobs.profile.profile_service.enums.NivelHabilidad;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de request para una habilidad requerida en la búsqueda de talento.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Habilidad requerida y nivel mínimo aceptado")
+public class SkillCriterionRequest {
+
+    /**
+     * Nombre de la habilidad (sin distinguir mayúsculas y minúsculas)
+     */
+    @Schema(
+            description = "Nombre de la habilidad, sin distinguir mayúsculas y minúsculas",
+            example = "Python",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            maxLength = 100
+    )
+    @NotBlank(message = "El nombre de la habilidad es obligatorio")
+    @Size(max = 100, message = "El nombre de la habilidad no puede exceder 100 caracteres")
+    private String nombre;
+
+    /**
+     * Nivel mínimo aceptado (BASICO si se omite)
+     */
+    @Schema(
+            description = "Nivel mínimo aceptado; se incluyen los niveles superiores. BASICO si se omite",
+            example = "AVANZADO",
+            allowableValues = {"BASICO", "INTERMEDIO", "AVANZADO", "EXPERTO"}
+    )
+    private NivelHabilidad nivelMinimo;
+}
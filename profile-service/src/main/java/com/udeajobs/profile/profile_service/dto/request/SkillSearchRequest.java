@@ -0,0 +1,62 @@
+package com.udeajobs.profile.profile_service.dto.request;
+
+import com.udeajobs.profile.profile_service.enums.SkillMatchMode;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de request para buscar perfiles por habilidades y nivel mínimo.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Búsqueda de talento por habilidades")
+public class SkillSearchRequest {
+
+    /**
+     * Habilidades que debe tener el perfil
+     */
+    @ArraySchema(minItems = 1, maxItems = 10)
+    @NotEmpty(message = "Debe indicar al menos una habilidad")
+    @Size(max = 10, message = "No se pueden combinar más de 10 habilidades por búsqueda")
+    private List<@Valid SkillCriterionRequest> skills;
+
+    /**
+     * Modo de combinación de las habilidades (ALL si se omite)
+     */
+    @Schema(
+            description = "ALL exige todas las habilidades, ANY al menos una. ALL si se omite",
+            example = "ALL",
+            allowableValues = {"ALL", "ANY"}
+    )
+    private SkillMatchMode mode;
+
+    /**
+     * Número máximo de resultados de la página
+     */
+    @Schema(description = "Número máximo de resultados por página", example = "20", defaultValue = "20", minimum = "1", maximum = "100")
+    @Min(value = 1, message = "El tamaño de página debe ser al menos 1")
+    @Max(value = 100, message = "El tamaño de página no puede exceder 100")
+    private Integer limit;
+
+    /**
+     * Cursor devuelto por la página anterior (nextCursor); se omite para la primera página
+     */
+    @Schema(description = "Cursor opaco devuelto en nextCursor por la página anterior; omitir para la primera página")
+    private String cursor;
+}
@@ -0,0 +1,52 @@
+package com.udeajobs.profile.profile_service.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de request para buscar perfiles por texto libre.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Búsqueda de perfiles por texto libre")
+public class TextSearchRequest {
+
+    /**
+     * Texto a buscar en el título profesional, el resumen y las descripciones de experiencia
+     */
+    @Schema(
+            description = "Texto a buscar. Admite frases entre comillas y términos excluidos con '-'",
+            example = "desarrollador backend microservicios",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            maxLength = 200
+    )
+    @NotBlank(message = "El texto de búsqueda es obligatorio")
+    @Size(max = 200, message = "El texto de búsqueda no puede exceder 200 caracteres")
+    private String query;
+
+    /**
+     * Número máximo de resultados de la página
+     */
+    @Schema(description = "Número máximo de resultados por página", example = "20", defaultValue = "20", minimum = "1", maximum = "100")
+    @Min(value = 1, message = "El tamaño de página debe ser al menos 1")
+    @Max(value = 100, message = "El tamaño de página no puede exceder 100")
+    private Integer limit;
+
+    /**
+     * Cursor devuelto por la página anterior (nextCursor); se omite para la primera página
+     */
+    @Schema(description = "Cursor opaco devuelto en nextCursor por la página anterior; omitir para la primera página")
+    private String cursor;
+}
@@ -0,0 +1,34 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta con el error de una línea de la importación masiva.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportLineError {
+
+    /**
+     * Número de línea (comenzando en 1)
+     */
+    private long line;
+
+    /**
+     * Identificador del perfil, si pudo leerse
+     */
+    private String profileId;
+
+    /**
+     * Descripción del error
+     */
+    private String message;
+}
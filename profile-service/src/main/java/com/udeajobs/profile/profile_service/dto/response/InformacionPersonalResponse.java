@@ -1,5 +1,6 @@
 package com.udeajobs.profile.profile_service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -41,4 +42,11 @@ public class InformacionPersonalResponse {
      * URL de la foto de perfil
      */
     private String fotoUrl;
+
+    /**
+     * Email del usuario. Solo se incluye en la exportación de perfiles, para que pueda
+     * importarse de nuevo; el resto de respuestas no lo exponen.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String email;
 }
@@ -0,0 +1,31 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para la consulta de varios perfiles.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileBatchResponse {
+
+    /**
+     * Perfiles encontrados, en el mismo orden en que fueron solicitados
+     */
+    private List<ProfileResponse> profiles;
+
+    /**
+     * Identificadores solicitados para los que no existe perfil
+     */
+    private List<String> missingIds;
+}
@@ -0,0 +1,61 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con el resumen de un perfil para listados de búsqueda.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileCardResponse {
+
+    /**
+     * Identificador del usuario
+     */
+    private String userId;
+
+    /**
+     * Nombre completo del usuario
+     */
+    private String nombreCompleto;
+
+    /**
+     * Título profesional del usuario
+     */
+    private String tituloProfesional;
+
+    /**
+     * URL de la foto de perfil
+     */
+    private String fotoUrl;
+
+    /**
+     * Ubicación del usuario
+     */
+    private UbicacionResponse ubicacion;
+
+    /**
+     * Habilidades del usuario
+     */
+    private List<HabilidadResponse> habilidades;
+
+    /**
+     * Indica si el perfil está completo
+     */
+    private Boolean perfilCompleto;
+
+    /**
+     * Relevancia del perfil en las búsquedas de texto; null en el resto de búsquedas
+     */
+    private Double score;
+}
@@ -0,0 +1,56 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con el resultado de una importación masiva de perfiles.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileImportResponse {
+
+    /**
+     * Líneas leídas, sin contar las vacías
+     */
+    private long lines;
+
+    /**
+     * Perfiles nuevos creados
+     */
+    private long inserted;
+
+    /**
+     * Perfiles existentes reemplazados
+     */
+    private long updated;
+
+    /**
+     * Líneas que no se importaron
+     */
+    private long failed;
+
+    /**
+     * Detalle de los errores por línea, limitado a los primeros
+     */
+    private List<ImportLineError> errors;
+
+    /**
+     * Duración total de la importación en milisegundos
+     */
+    private long durationMillis;
+
+    /**
+     * Rendimiento medio en perfiles escritos por segundo
+     */
+    private double documentsPerSecond;
+}
@@ -0,0 +1,37 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de una edición múltiple de perfil.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilePatchResponse {
+
+    /**
+     * Identificador del usuario
+     */
+    private String userId;
+
+    /**
+     * Versión del perfil tras aplicar las operaciones
+     */
+    private Long version;
+
+    /**
+     * Identificador del elemento afectado por cada operación, en el orden recibido.
+     * Para ADD es el identificador generado; para la información personal es null.
+     */
+    private List<String> itemIds;
+}
@@ -53,5 +53,10 @@ public class ProfileResponse {
      * Metadatos del perfil
      */
     private MetadataResponse metadata;
+
+    /**
+     * Versión actual del perfil
+     */
+    private Long version;
 }
 
@@ -0,0 +1,31 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para una página de resultados de búsqueda de perfiles.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileSearchResponse {
+
+    /**
+     * Perfiles de la página actual
+     */
+    private List<ProfileCardResponse> results;
+
+    /**
+     * Cursor para solicitar la página siguiente, null si no hay más resultados
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,32 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con los validadores de un perfil (versión y última actualización),
+ * usados para las peticiones condicionales HTTP.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileVersionResponse {
+
+    /**
+     * Versión actual del perfil
+     */
+    private Long version;
+
+    /**
+     * Fecha y hora de la última actualización
+     */
+    private LocalDateTime ultimaActualizacion;
+}
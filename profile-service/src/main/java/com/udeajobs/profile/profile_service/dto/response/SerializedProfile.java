@@ -0,0 +1,25 @@
+package com.udeajobs.profile.profile_service.dto.response;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Perfil completo ya serializado a JSON, tal como se envía en GET /{userId}.
+ * Permite responder desde la caché escribiendo los bytes directamente, sin mapear
+ * ni serializar el perfil en cada petición.
+ *
+ * @param version versión del perfil serializado
+ * @param ultimaActualizacion fecha de última actualización del perfil serializado
+ * @param json cuerpo JSON en UTF-8
+ * @param gzip cuerpo JSON comprimido con gzip, null si no se comprimió
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record SerializedProfile(
+        Long version,
+        LocalDateTime ultimaActualizacion,
+        byte[] json,
+        byte[] gzip
+) implements Serializable {
+}
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Locale;
+
 /**
  * Entidad embebida que representa una habilidad técnica o blanda del usuario.
  *
@@ -28,8 +30,24 @@ public class Habilidad {
      */
     private String nombre;
 
+    /**
+     * Nombre de la habilidad normalizado para las búsquedas: sin espacios en los extremos
+     * y en minúsculas. Se indexa con la colación simple junto al nivel y el identificador.
+     */
+    private String nombreNormalizado;
+
     /**
      * Nivel de dominio de la habilidad
      */
     private NivelHabilidad nivel;
+
+    /**
+     * Normaliza el nombre de una habilidad para compararlo sin distinguir mayúsculas y minúsculas.
+     *
+     * @param nombre nombre de la habilidad
+     * @return nombre normalizado, o null si el nombre es null
+     */
+    public static String normalizarNombre(String nombre) {
+        return nombre != null ? nombre.trim().toLowerCase(Locale.ROOT) : null;
+    }
 }
@@ -0,0 +1,56 @@
+package com.udeajobs.profile.profile_service.entity;
+
+import com.udeajobs.profile.profile_service.enums.ProfileChangeType;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad embebida que representa un cambio del perfil pendiente de publicar.
+ * Se guarda en el arreglo "outbox" del propio documento de perfil, en la misma
+ * escritura que aplica el cambio, y se retira una vez publicado en RabbitMQ.
+ * Si el outbox se llena, los eventos pendientes se sustituyen por uno del perfil completo.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * Identificador único del evento, usado por los consumidores para descartar duplicados
+     */
+    private String eventId;
+
+    /**
+     * Sección modificada, nula si el cambio afecta al perfil completo
+     */
+    private ProfileSection section;
+
+    /**
+     * Tipo de cambio
+     */
+    private ProfileChangeType type;
+
+    /**
+     * Versión del perfil resultante del cambio
+     */
+    private Long version;
+
+    /**
+     * Fecha y hora del cambio
+     */
+    private LocalDateTime occurredAt;
+
+    /**
+     * Número de eventos pendientes que sustituye este evento del perfil completo, nulo si no sustituye ninguno
+     */
+    private Integer coalesced;
+}
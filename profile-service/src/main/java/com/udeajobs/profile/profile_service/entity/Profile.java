@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.ArrayList;
@@ -64,5 +65,12 @@ public class Profile {
      * Metadatos del perfil
      */
     private Metadata metadata;
+
+    /**
+     * Versión del documento para control de concurrencia optimista,
+     * se incrementa con cada modificación del perfil
+     */
+    @Version
+    private Long version;
 }
 
@@ -1,5 +1,8 @@
 package com.udeajobs.profile.profile_service.enums;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Enumeración que representa los diferentes niveles de habilidad que un usuario puede tener.
  *
@@ -25,5 +28,14 @@ public enum NivelHabilidad {
     /**
      * Nivel experto de habilidad
      */
-    EXPERTO
+    EXPERTO;
+
+    /**
+     * Obtiene este nivel y todos los niveles superiores, según el orden de declaración.
+     *
+     * @return niveles iguales o superiores a este
+     */
+    public List<NivelHabilidad> andAbove() {
+        return Arrays.asList(values()).subList(ordinal(), values().length);
+    }
 }
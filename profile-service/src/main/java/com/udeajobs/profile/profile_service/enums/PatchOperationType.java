@@ -0,0 +1,24 @@
+package com.udeajobs.profile.profile_service.enums;
+
+/**
+ * Enumeración de las operaciones admitidas en una edición múltiple de perfil.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public enum PatchOperationType {
+    /**
+     * Añade un elemento a una sección
+     */
+    ADD,
+
+    /**
+     * Reemplaza un elemento de una sección o la información personal
+     */
+    UPDATE,
+
+    /**
+     * Elimina un elemento de una sección
+     */
+    DELETE
+}
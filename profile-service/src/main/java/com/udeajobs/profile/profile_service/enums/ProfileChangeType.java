@@ -0,0 +1,24 @@
+package com.udeajobs.profile.profile_service.enums;
+
+/**
+ * Enumeración de los tipos de cambio que se notifican en los eventos de perfil.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public enum ProfileChangeType {
+    /**
+     * Se creó el perfil o se añadió un elemento a una sección
+     */
+    CREATED,
+
+    /**
+     * Se modificó la información personal o un elemento de una sección
+     */
+    UPDATED,
+
+    /**
+     * Se eliminó un elemento de una sección
+     */
+    DELETED
+}
@@ -0,0 +1,86 @@
+package com.udeajobs.profile.profile_service.enums;
+
+import com.udeajobs.profile.profile_service.entity.Educacion;
+import com.udeajobs.profile.profile_service.entity.ExperienciaLaboral;
+import com.udeajobs.profile.profile_service.entity.Habilidad;
+import com.udeajobs.profile.profile_service.entity.InformacionPersonal;
+import com.udeajobs.profile.profile_service.entity.Portafolio;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enumeración de las secciones embebidas en el documento de perfil.
+ * Asocia cada sección con su campo en MongoDB, su nombre en la API y el tipo de sus elementos.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProfileSection {
+
+    /**
+     * Sección de información personal (sub-documento único, no es una lista)
+     */
+    INFORMACION_PERSONAL("informacionPersonal", "personal-info", InformacionPersonal.class, "Información personal"),
+
+    /**
+     * Sección de habilidades
+     */
+    HABILIDADES("habilidades", "skills", Habilidad.class, "Habilidad"),
+
+    /**
+     * Sección de experiencia laboral
+     */
+    EXPERIENCIA_LABORAL("experienciaLaboral", "experience", ExperienciaLaboral.class, "Experiencia laboral"),
+
+    /**
+     * Sección de formación académica
+     */
+    EDUCACION("educacion", "education", Educacion.class, "Educación"),
+
+    /**
+     * Sección de portafolio
+     */
+    PORTAFOLIO("portafolio", "portfolio", Portafolio.class, "Portafolio");
+
+    /**
+     * Nombre del campo del documento que contiene la sección
+     */
+    private final String field;
+
+    /**
+     * Nombre de la sección en la API REST (segmento de ruta y valor JSON)
+     */
+    @JsonValue
+    private final String path;
+
+    /**
+     * Tipo de los elementos de la lista, o del sub-documento para la información personal
+     */
+    private final Class<?> elementType;
+
+    /**
+     * Nombre legible del recurso, usado en los mensajes de error
+     */
+    private final String resourceName;
+
+    /**
+     * Obtiene la sección a partir de su nombre en la API o del nombre de la constante.
+     *
+     * @param value nombre de la sección, por ejemplo "skills" o "HABILIDADES"
+     * @return sección correspondiente
+     * @throws IllegalArgumentException si el valor no corresponde a ninguna sección
+     */
+    @JsonCreator
+    public static ProfileSection fromValue(String value) {
+        for (ProfileSection section : values()) {
+            if (section.path.equalsIgnoreCase(value) || section.name().equalsIgnoreCase(value)) {
+                return section;
+            }
+        }
+        throw new IllegalArgumentException("Sección de perfil desconocida: " + value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.udeajobs.profile.profile_service.enums;
+
+/**
+ * Enumeración que indica cómo se combinan las habilidades de una búsqueda.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public enum SkillMatchMode {
+    /**
+     * El perfil debe tener todas las habilidades indicadas
+     */
+    ALL,
+
+    /**
+     * El perfil debe tener al menos una de las habilidades indicadas
+     */
+    ANY
+}
@@ -0,0 +1,32 @@
+package com.udeajobs.profile.profile_service.events;
+
+import com.udeajobs.profile.profile_service.enums.ProfileChangeType;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento que se publica cuando cambia un perfil de usuario.
+ * Es compacto a propósito: los consumidores lo usan para invalidar su copia y,
+ * si la necesitan, consultan el perfil actualizado.
+ *
+ * @param eventId identificador único del evento, para descartar duplicados
+ * @param userId identificador del usuario cuyo perfil cambió
+ * @param section sección modificada, nula si el cambio afecta al perfil completo
+ * @param type tipo de cambio
+ * @param version versión del perfil resultante del cambio
+ * @param occurredAt fecha y hora del cambio
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ * @since 1.0
+ */
+public record ProfileChangedEvent(
+        String eventId,
+        String userId,
+        ProfileSection section,
+        ProfileChangeType type,
+        Long version,
+        LocalDateTime occurredAt
+) {
+}
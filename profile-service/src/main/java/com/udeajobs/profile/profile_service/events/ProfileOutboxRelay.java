@@ -0,0 +1,172 @@
+package com.udeajobs.profile.profile_service.events;
+
+import com.udeajobs.profile.profile_service.config.RabbitMQConfig;
+import com.udeajobs.profile.profile_service.entity.OutboxEvent;
+import com.udeajobs.profile.profile_service.repository.ProfileRepository;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileOutboxView;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publica en RabbitMQ los eventos de cambio registrados en el outbox de los perfiles.
+ * Periódicamente reclama un lote de perfiles con eventos pendientes, los publica en
+ * {@link RabbitMQConfig#PROFILE_EXCHANGE_NAME} esperando la confirmación del broker
+ * y solo entonces los retira del outbox. Si la publicación falla, la reclamación se
+ * libera y los eventos quedan pendientes para el siguiente ciclo, por lo que la entrega
+ * es al menos una vez y los consumidores deben descartar duplicados por eventId.
+ * <p>
+ * El relay se ejecuta en todas las réplicas. Cada perfil reclamado queda reservado para
+ * una sola de ellas durante {@code profile.outbox.lease}, que debe superar el tiempo de
+ * publicación de un lote; solo si una réplica se detiene con la concesión activa, otra
+ * vuelve a publicar sus eventos al vencer.
+ * <p>
+ * Los eventos pendientes de un perfil están acotados por {@code profile.outbox.max-pending-events}:
+ * al superarse, el repositorio los sustituye por un único evento del perfil completo, y el relay
+ * cuenta los eventos sustituidos en {@code profile.outbox.coalesced}. Para alertar cuando la
+ * publicación se atrasa, cada ciclo publica los perfiles con eventos pendientes en
+ * {@code profile.outbox.pending.profiles} y los eventos de cada perfil publicado en
+ * {@code profile.outbox.pending.events}.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileOutboxRelay {
+
+    private final ProfileRepository profileRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${profile.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${profile.outbox.confirm-timeout:5s}")
+    private Duration confirmTimeout;
+
+    @Value("${profile.outbox.lease:30s}")
+    private Duration lease;
+
+    private final AtomicLong pendingProfiles = new AtomicLong();
+    private DistributionSummary pendingEvents;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("profile.outbox.pending.profiles", pendingProfiles, AtomicLong::get)
+                .description("Perfiles con eventos de cambio pendientes en el último ciclo del relay, sin los reclamados por otras réplicas")
+                .register(meterRegistry);
+        pendingEvents = DistributionSummary.builder("profile.outbox.pending.events")
+                .description("Eventos pendientes de cada perfil publicado por el relay")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publica un lote de eventos pendientes.
+     */
+    @Scheduled(fixedDelayString = "${profile.outbox.relay-interval:1s}")
+    public void relay() {
+        String claimId = UUID.randomUUID().toString();
+        List<ProfileOutboxView> pending;
+        try {
+            pending = profileRepository.claimPendingEvents(claimId, batchSize, lease);
+        } catch (RuntimeException e) {
+            log.warn("No fue posible leer los eventos pendientes del outbox: {}", e.getMessage());
+            return;
+        }
+        recordPending(pending);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<ProfileChangedEvent> events = new ArrayList<>();
+        Map<String, List<String>> eventIdsByUser = new LinkedHashMap<>();
+        long coalesced = 0;
+        for (ProfileOutboxView profile : pending) {
+            for (OutboxEvent event : profile.outbox()) {
+                if (event.getCoalesced() != null) {
+                    coalesced += event.getCoalesced();
+                }
+                events.add(new ProfileChangedEvent(event.getEventId(), profile.id(), event.getSection(),
+                        event.getType(), event.getVersion(), event.getOccurredAt()));
+                eventIdsByUser.computeIfAbsent(profile.id(), id -> new ArrayList<>()).add(event.getEventId());
+            }
+        }
+
+        try {
+            rabbitTemplate.invoke(operations -> {
+                events.forEach(event -> operations.convertAndSend(
+                        RabbitMQConfig.PROFILE_EXCHANGE_NAME, routingKey(event), event));
+                operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+                return null;
+            });
+        } catch (AmqpException e) {
+            meterRegistry.counter("profile.outbox.publish.failures").increment();
+            log.warn("No fue posible publicar {} eventos de perfil, se reintentará: {}", events.size(), e.getMessage());
+            release(claimId, eventIdsByUser.keySet());
+            return;
+        }
+
+        profileRepository.removeEvents(claimId, eventIdsByUser);
+        meterRegistry.counter("profile.outbox.published").increment(events.size());
+        meterRegistry.counter("profile.outbox.coalesced").increment(coalesced);
+        log.debug("Publicados {} eventos de cambio de {} perfiles", events.size(), pending.size());
+    }
+
+    /**
+     * Libera la reclamación tras un fallo de publicación. Si tampoco es posible, la concesión
+     * vence sola y los eventos se publican en un ciclo posterior.
+     */
+    private void release(String claimId, Collection<String> userIds) {
+        try {
+            profileRepository.releaseEvents(claimId, userIds);
+        } catch (RuntimeException e) {
+            log.warn("No fue posible liberar los eventos reclamados, se publicarán al vencer la concesión: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza las métricas de eventos pendientes. Solo si el lote está completo puede haber
+     * más perfiles pendientes que los leídos, y solo entonces se cuentan en MongoDB.
+     */
+    private void recordPending(List<ProfileOutboxView> pending) {
+        pending.forEach(profile -> pendingEvents.record(profile.outbox().size()));
+        if (pending.size() < batchSize) {
+            pendingProfiles.set(pending.size());
+            return;
+        }
+        try {
+            pendingProfiles.set(profileRepository.countProfilesWithPendingEvents());
+        } catch (RuntimeException e) {
+            log.debug("No fue posible contar los perfiles con eventos pendientes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Clave de enrutamiento del evento: profile.&lt;sección&gt;.&lt;tipo&gt;
+     */
+    private static String routingKey(ProfileChangedEvent event) {
+        String section = event.section() != null ? event.section().getPath() : "profile";
+        return "profile." + section + "." + event.type().name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+package com.udeajobs.profile.profile_service.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Excepción lanzada cuando se rechaza una petición a las operaciones administrativas,
+ * porque no están habilitadas en la instancia o porque la credencial no es válida.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Getter
+public class AdminAccessDeniedException extends RuntimeException {
+
+    /**
+     * Código de estado HTTP con el que se responde
+     */
+    private final HttpStatus status;
+
+    private AdminAccessDeniedException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    /**
+     * Crea una excepción para una instancia sin token de administración configurado. Se
+     * responde como una ruta inexistente para no revelar las operaciones administrativas.
+     *
+     * @return instancia de la excepción
+     */
+    public static AdminAccessDeniedException disabled() {
+        return new AdminAccessDeniedException(HttpStatus.NOT_FOUND, "Recurso no encontrado");
+    }
+
+    /**
+     * Crea una excepción para una petición sin credencial o con una credencial incorrecta.
+     *
+     * @return instancia de la excepción
+     */
+    public static AdminAccessDeniedException invalidToken() {
+        return new AdminAccessDeniedException(HttpStatus.UNAUTHORIZED,
+                "Se requiere un token de administración válido");
+    }
+}
@@ -0,0 +1,90 @@
+package com.udeajobs.profile.profile_service.exception;
+
+import com.udeajobs.profile.profile_service.dto.response.ErrorResponse;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Construcción de las respuestas de error, compartida por los manejadores de excepciones
+ * de las pilas servlet y reactiva para que ambas devuelvan los mismos cuerpos.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public final class ErrorResponses {
+
+    /**
+     * Mensaje de los conflictos de concurrencia que persisten tras los reintentos
+     */
+    public static final String CONFLICT_MESSAGE = "El perfil fue modificado por otra petición. Por favor, intente nuevamente.";
+
+    /**
+     * Mensaje de los errores de validación de @Valid
+     */
+    public static final String VALIDATION_MESSAGE = "Error de validación en los datos proporcionados";
+
+    /**
+     * Mensaje de los cuerpos de petición que no se pueden leer
+     */
+    public static final String INVALID_BODY_MESSAGE = "El cuerpo de la petición no es válido";
+
+    /**
+     * Mensaje de los errores no controlados
+     */
+    public static final String INTERNAL_ERROR_MESSAGE = "Error interno del servidor. Por favor, intente más tarde.";
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * Construye una respuesta de error sin errores de validación.
+     *
+     * @param status código de estado HTTP
+     * @param message mensaje de error principal
+     * @param path ruta de la petición
+     * @return respuesta con el código y el cuerpo de error
+     */
+    public static ResponseEntity<ErrorResponse> of(HttpStatusCode status, String message, String path) {
+        return of(status, message, path, null);
+    }
+
+    /**
+     * Construye una respuesta de error.
+     *
+     * @param status código de estado HTTP
+     * @param message mensaje de error principal
+     * @param path ruta de la petición
+     * @param errors errores de validación por campo, o null si no aplica
+     * @return respuesta con el código y el cuerpo de error
+     */
+    public static ResponseEntity<ErrorResponse> of(HttpStatusCode status, String message, String path,
+                                                   List<ErrorResponse.ValidationError> errors) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(status.value())
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .path(path)
+                .errors(errors)
+                .build();
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    /**
+     * Convierte los errores de validación por campo al formato de la respuesta.
+     *
+     * @param fieldErrors errores de validación por campo
+     * @return errores de validación de la respuesta
+     */
+    public static List<ErrorResponse.ValidationError> validationErrors(List<FieldError> fieldErrors) {
+        return fieldErrors.stream()
+                .map(error -> ErrorResponse.ValidationError.builder()
+                        .field(error.getField())
+                        .message(error.getDefaultMessage())
+                        .build())
+                .toList();
+    }
+}
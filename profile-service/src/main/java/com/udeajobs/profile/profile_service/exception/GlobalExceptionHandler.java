@@ -3,15 +3,16 @@ package com.udeajobs.profile.profile_service.exception;
 import com.udeajobs.profile.profile_service.dto.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Manejador global de excepciones para toda la aplicación.
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     /**
@@ -38,14 +40,7 @@ public class GlobalExceptionHandler {
 
         log.warn("Perfil no encontrado: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.NOT_FOUND.value())
-                .message(ex.getMessage())
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        return ErrorResponses.of(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
     }
 
     /**
@@ -62,14 +57,7 @@ public class GlobalExceptionHandler {
 
         log.warn("Recurso no encontrado: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.NOT_FOUND.value())
-                .message(ex.getMessage())
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        return ErrorResponses.of(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
     }
 
     /**
@@ -86,14 +74,41 @@ public class GlobalExceptionHandler {
 
         log.error("Datos inválidos: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.BAD_REQUEST.value())
-                .message(ex.getMessage())
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .build();
+        return ErrorResponses.of(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+    }
+
+    /**
+     * Maneja las peticiones rechazadas a las operaciones administrativas.
+     *
+     * @param ex excepción lanzada
+     * @param request petición HTTP
+     * @return respuesta con código 401, o 404 si las operaciones no están habilitadas
+     */
+    @ExceptionHandler(AdminAccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAdminAccessDeniedException(
+            AdminAccessDeniedException ex,
+            HttpServletRequest request) {
+
+        log.warn("Acceso administrativo rechazado en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ErrorResponses.of(ex.getStatus(), ex.getMessage(), request.getRequestURI());
+    }
+
+    /**
+     * Maneja los conflictos de concurrencia que persisten tras los reintentos.
+     *
+     * @param ex excepción lanzada
+     * @param request petición HTTP
+     * @return respuesta con código 409
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        log.warn("Conflicto de concurrencia: {}", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ErrorResponses.of(HttpStatus.CONFLICT, ErrorResponses.CONFLICT_MESSAGE, request.getRequestURI());
     }
 
     /**
@@ -111,24 +126,28 @@ public class GlobalExceptionHandler {
 
         log.warn("Error de validación en la petición: {}", request.getRequestURI());
 
-        List<ErrorResponse.ValidationError> validationErrors = ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(error -> ErrorResponse.ValidationError.builder()
-                        .field(error.getField())
-                        .message(error.getDefaultMessage())
-                        .build())
-                .collect(Collectors.toList());
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.BAD_REQUEST.value())
-                .message("Error de validación en los datos proporcionados")
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .errors(validationErrors)
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        List<ErrorResponse.ValidationError> validationErrors =
+                ErrorResponses.validationErrors(ex.getBindingResult().getFieldErrors());
+
+        return ErrorResponses.of(HttpStatus.BAD_REQUEST, ErrorResponses.VALIDATION_MESSAGE, request.getRequestURI(),
+                validationErrors);
+    }
+
+    /**
+     * Maneja los cuerpos de petición que no se pueden leer (JSON mal formado o valores no admitidos).
+     *
+     * @param ex excepción lanzada
+     * @param request petición HTTP
+     * @return respuesta con código 400
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex,
+            HttpServletRequest request) {
+
+        log.warn("Cuerpo de la petición inválido en {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ErrorResponses.of(HttpStatus.BAD_REQUEST, ErrorResponses.INVALID_BODY_MESSAGE, request.getRequestURI());
     }
 
     /**
@@ -145,14 +164,8 @@ public class GlobalExceptionHandler {
 
         log.error("Error interno del servidor: ", ex);
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .message("Error interno del servidor. Por favor, intente más tarde.")
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        return ErrorResponses.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorResponses.INTERNAL_ERROR_MESSAGE,
+                request.getRequestURI());
     }
 }
 
@@ -2,19 +2,64 @@ package com.udeajobs.profile.profile_service.listeners;
 
 import com.udeajobs.profile.profile_service.config.RabbitMQConfig;
 import com.udeajobs.profile.profile_service.events.CuentaVerificadaEvent;
+import com.udeajobs.profile.profile_service.repository.BulkInsertResult;
 import com.udeajobs.profile.profile_service.service.ProfileService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Consumidor de los eventos de cuentas verificadas.
+ * Recibe los mensajes en lotes y crea los perfiles base con una única escritura masiva;
+ * el lote se confirma al broker solo después de haberse escrito. Los eventos cuyo perfil
+ * no pudo crearse por un conflicto con otro perfil se publican antes en
+ * {@link RabbitMQConfig#DEAD_LETTER_QUEUE_NAME}; si esa publicación falla, el lote se reencola.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class ProfileEventListener {
     private final ProfileService profileService;
+    private final MeterRegistry meterRegistry;
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${profile.events.confirm-timeout:5s}")
+    private Duration confirmTimeout;
+
+    @RabbitListener(id = RabbitMQConfig.LISTENER_ID, queues = RabbitMQConfig.QUEUE_NAME)
+    public void onProfileCreated(List<CuentaVerificadaEvent> events) {
+        meterRegistry.summary("profile.events.batch.size").record(events.size());
+
+        BulkInsertResult result = meterRegistry.timer("profile.events.batch.duration")
+                .record(() -> profileService.createBaseUsers(events));
+        if (!result.rejected().isEmpty()) {
+            deadLetter(events, result);
+        }
+
+        meterRegistry.counter("profile.events.received").increment(events.size());
+        meterRegistry.counter("profile.events.created").increment(result.inserted());
+    }
+
+    private void deadLetter(List<CuentaVerificadaEvent> events, BulkInsertResult result) {
+        List<CuentaVerificadaEvent> rejected = events.stream()
+                .filter(event -> result.rejected().containsKey(event.accountId()))
+                .toList();
+        rejected.forEach(event -> log.error("No fue posible crear el perfil base de la cuenta {}: {}",
+                event.accountId(), result.rejected().get(event.accountId())));
 
-    @RabbitListener(queues = RabbitMQConfig.QUEUE_NAME)
-    public void onProfileCreated(CuentaVerificadaEvent event) {
-        profileService.createBaseUser(event);
+        rabbitTemplate.invoke(operations -> {
+            rejected.forEach(event -> operations.convertAndSend(RabbitMQConfig.DEAD_LETTER_QUEUE_NAME, event));
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+        meterRegistry.counter("profile.events.rejected").increment(rejected.size());
     }
 
 }
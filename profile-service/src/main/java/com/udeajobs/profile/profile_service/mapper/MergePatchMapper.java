@@ -0,0 +1,187 @@
+package com.udeajobs.profile.profile_service.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.udeajobs.profile.profile_service.exception.InvalidDataException;
+import com.udeajobs.profile.profile_service.repository.FieldPatch;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Traduce documentos JSON Merge Patch (RFC 7396) a cambios de campos concretos.
+ * Cada campo del patch se interpreta con el tipo que tiene en el DTO de request de la
+ * sección y se valida con las mismas restricciones, por lo que un patch no puede dejar
+ * un campo con un valor que el endpoint de reemplazo rechazaría, ni eliminar un campo
+ * obligatorio. Los campos con valor null se eliminan y los objetos anidados se combinan
+ * recursivamente; un objeto anidado se valida completo, combinando el patch con su estado
+ * actual, para que no quede sin alguno de sus campos obligatorios.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class MergePatchMapper {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Convierte un merge patch en los campos a asignar y a eliminar, sin estado actual: los
+     * objetos anidados del patch deben ser válidos por sí solos.
+     *
+     * @param patch documento merge patch
+     * @param requestType DTO de request que define los campos modificables y sus restricciones
+     * @return cambios de campos con rutas relativas al objeto modificado
+     * @throws InvalidDataException si el patch no es un objeto, contiene campos desconocidos
+     *                              o algún valor no cumple las restricciones
+     */
+    public FieldPatch toFieldPatch(JsonNode patch, Class<?> requestType) {
+        return toFieldPatch(patch, requestType, () -> null);
+    }
+
+    /**
+     * Convierte un merge patch en los campos a asignar y a eliminar. Cada objeto anidado se
+     * combina con su valor actual y el resultado se valida contra el tipo del DTO.
+     *
+     * @param patch documento merge patch
+     * @param requestType DTO de request que define los campos modificables y sus restricciones
+     * @param current estado actual del objeto modificado; solo se obtiene si el patch
+     *                contiene objetos anidados y puede devolver null
+     * @return cambios de campos con rutas relativas al objeto modificado
+     * @throws InvalidDataException si el patch no es un objeto, contiene campos desconocidos
+     *                              o algún valor no cumple las restricciones
+     */
+    public FieldPatch toFieldPatch(JsonNode patch, Class<?> requestType, Supplier<?> current) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidDataException("El merge patch debe ser un objeto JSON");
+        }
+
+        Map<String, Object> set = new LinkedHashMap<>();
+        Set<String> unset = new LinkedHashSet<>();
+        List<String> errors = new ArrayList<>();
+        collect(patch, requestType, "", true, set, unset, errors);
+        if (errors.isEmpty()) {
+            validateNested(patch, requestType, current, errors);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidDataException("Merge patch inválido: " + String.join("; ", errors));
+        }
+        return new FieldPatch(set, unset);
+    }
+
+    private void collect(JsonNode patch, Class<?> type, String prefix, boolean validateFields,
+                         Map<String, Object> set, Set<String> unset, List<String> errors) {
+        Object typed;
+        try {
+            typed = objectMapper.treeToValue(patch, type);
+        } catch (JsonProcessingException e) {
+            errors.add((prefix.isEmpty() ? "patch" : prefix) + ": " + e.getOriginalMessage());
+            return;
+        }
+        BeanWrapper bean = PropertyAccessorFactory.forBeanPropertyAccess(typed);
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            String path = prefix + name;
+
+            if ("class".equals(name) || !bean.isReadableProperty(name)) {
+                errors.add(path + ": campo desconocido o no modificable");
+                continue;
+            }
+            if (field.getValue().isObject()) {
+                // Los campos anidados se validan después sobre el objeto combinado
+                collect(field.getValue(), bean.getPropertyType(name), path + ".", false, set, unset, errors);
+                continue;
+            }
+
+            Object value = field.getValue().isNull() ? null : bean.getPropertyValue(name);
+            if (validateFields) {
+                validator.validateValue(type, name, value)
+                        .forEach(violation -> errors.add(path + ": " + violation.getMessage()));
+            }
+            if (value == null) {
+                unset.add(path);
+            } else {
+                set.put(path, value);
+            }
+        }
+    }
+
+    /**
+     * Combina cada objeto anidado de primer nivel del patch con su valor actual y valida el
+     * resultado completo contra el tipo del campo en el DTO.
+     */
+    private void validateNested(JsonNode patch, Class<?> type, Supplier<?> current, List<String> errors) {
+        JsonNode currentTree = null;
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isObject()) {
+                continue;
+            }
+            if (currentTree == null) {
+                Object currentValue = current.get();
+                currentTree = currentValue != null
+                        ? objectMapper.valueToTree(currentValue)
+                        : objectMapper.createObjectNode();
+            }
+
+            String name = field.getKey();
+            JsonNode currentField = currentTree.get(name);
+            ObjectNode merged = currentField != null && currentField.isObject()
+                    ? ((ObjectNode) currentField).deepCopy()
+                    : objectMapper.createObjectNode();
+            merge(merged, field.getValue());
+
+            Class<?> nestedType = BeanUtils.getPropertyDescriptor(type, name).getPropertyType();
+            try {
+                validator.validate(objectMapper.treeToValue(merged, nestedType))
+                        .forEach(violation -> errors.add(
+                                name + "." + violation.getPropertyPath() + ": " + violation.getMessage()));
+            } catch (JsonProcessingException e) {
+                errors.add(name + ": " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Aplica un merge patch sobre un árbol JSON según RFC 7396.
+     */
+    private static void merge(ObjectNode target, JsonNode patch) {
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                target.remove(field.getKey());
+            } else if (value.isObject()) {
+                JsonNode existing = target.get(field.getKey());
+                ObjectNode nested = existing != null && existing.isObject()
+                        ? (ObjectNode) existing
+                        : target.putObject(field.getKey());
+                merge(nested, value);
+            } else {
+                target.set(field.getKey(), value);
+            }
+        }
+    }
+}
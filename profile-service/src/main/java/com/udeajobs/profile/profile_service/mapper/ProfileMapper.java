@@ -3,9 +3,16 @@ package com.udeajobs.profile.profile_service.mapper;
 import com.udeajobs.profile.profile_service.dto.request.*;
 import com.udeajobs.profile.profile_service.dto.response.*;
 import com.udeajobs.profile.profile_service.entity.*;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileTextMatch;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,26 +38,161 @@ public class ProfileMapper {
         return ProfileResponse.builder()
                 .id(profile.getId())
                 .informacionPersonal(toInformacionPersonalResponse(profile.getInformacionPersonal()))
-                .habilidades(profile.getHabilidades() != null ?
-                        profile.getHabilidades().stream()
-                                .map(this::toHabilidadResponse)
-                                .collect(Collectors.toList()) : List.of())
-                .experienciaLaboral(profile.getExperienciaLaboral() != null ?
-                        profile.getExperienciaLaboral().stream()
-                                .map(this::toExperienciaLaboralResponse)
-                                .collect(Collectors.toList()) : List.of())
-                .educacion(profile.getEducacion() != null ?
-                        profile.getEducacion().stream()
-                                .map(this::toEducacionResponse)
-                                .collect(Collectors.toList()) : List.of())
-                .portafolio(profile.getPortafolio() != null ?
-                        profile.getPortafolio().stream()
-                                .map(this::toPortafolioResponse)
-                                .collect(Collectors.toList()) : List.of())
+                .habilidades(toHabilidadResponses(profile.getHabilidades()))
+                .experienciaLaboral(toExperienciaLaboralResponses(profile.getExperienciaLaboral()))
+                .educacion(toEducacionResponses(profile.getEducacion()))
+                .portafolio(toPortafolioResponses(profile.getPortafolio()))
                 .metadata(toMetadataResponse(profile.getMetadata()))
+                .version(profile.getVersion())
                 .build();
     }
 
+    /**
+     * Convierte una entidad Profile a la representación de la exportación: la misma que
+     * {@link #toProfileResponse(Profile, Set)} más el email registrado, de modo que la
+     * exportación pueda importarse de nuevo sin perderlo.
+     *
+     * @param profile entidad a convertir
+     * @param sections secciones a incluir, todas si es nulo o vacío
+     * @return DTO de respuesta con el email en la información personal
+     */
+    public ProfileResponse toProfileExport(Profile profile, Set<ProfileSection> sections) {
+        ProfileResponse response = toProfileResponse(profile, sections);
+        if (response != null && response.getInformacionPersonal() != null) {
+            response.getInformacionPersonal().setEmail(profile.getInformacionPersonal().getEmail());
+        }
+        return response;
+    }
+
+    /**
+     * Convierte una entidad Profile a ProfileResponse incluyendo solo las secciones indicadas.
+     * Las secciones no solicitadas quedan en null para distinguirlas de las secciones vacías.
+     *
+     * @param profile entidad a convertir
+     * @param sections secciones a incluir, todas si es nulo o vacío
+     * @return DTO de respuesta
+     */
+    public ProfileResponse toProfileResponse(Profile profile, Set<ProfileSection> sections) {
+        if (sections == null || sections.isEmpty()) {
+            return toProfileResponse(profile);
+        }
+        if (profile == null) {
+            return null;
+        }
+
+        return ProfileResponse.builder()
+                .id(profile.getId())
+                .informacionPersonal(sections.contains(ProfileSection.INFORMACION_PERSONAL) ?
+                        toInformacionPersonalResponse(profile.getInformacionPersonal()) : null)
+                .habilidades(sections.contains(ProfileSection.HABILIDADES) ?
+                        toHabilidadResponses(profile.getHabilidades()) : null)
+                .experienciaLaboral(sections.contains(ProfileSection.EXPERIENCIA_LABORAL) ?
+                        toExperienciaLaboralResponses(profile.getExperienciaLaboral()) : null)
+                .educacion(sections.contains(ProfileSection.EDUCACION) ?
+                        toEducacionResponses(profile.getEducacion()) : null)
+                .portafolio(sections.contains(ProfileSection.PORTAFOLIO) ?
+                        toPortafolioResponses(profile.getPortafolio()) : null)
+                .metadata(toMetadataResponse(profile.getMetadata()))
+                .version(profile.getVersion())
+                .build();
+    }
+
+    /**
+     * Convierte una entidad Profile al resumen usado en los resultados de búsqueda.
+     *
+     * @param profile entidad a convertir
+     * @return DTO de respuesta
+     */
+    public ProfileCardResponse toProfileCardResponse(Profile profile) {
+        if (profile == null) {
+            return null;
+        }
+
+        InformacionPersonal info = profile.getInformacionPersonal();
+        return ProfileCardResponse.builder()
+                .userId(profile.getId())
+                .nombreCompleto(info != null ? info.getNombreCompleto() : null)
+                .tituloProfesional(info != null ? info.getTituloProfesional() : null)
+                .fotoUrl(info != null ? info.getFotoUrl() : null)
+                .ubicacion(info != null ? toUbicacionResponse(info.getUbicacion()) : null)
+                .habilidades(toHabilidadResponses(profile.getHabilidades()))
+                .perfilCompleto(profile.getMetadata() != null ? profile.getMetadata().getPerfilCompleto() : null)
+                .build();
+    }
+
+    /**
+     * Convierte un resultado de la búsqueda de texto al resumen del perfil con su relevancia.
+     *
+     * @param match resultado a convertir
+     * @return DTO de respuesta
+     */
+    public ProfileCardResponse toProfileCardResponse(ProfileTextMatch match) {
+        if (match == null) {
+            return null;
+        }
+
+        ProfileCardResponse card = toProfileCardResponse(Profile.builder()
+                .id(match.id())
+                .informacionPersonal(match.informacionPersonal())
+                .habilidades(match.habilidades())
+                .metadata(match.metadata())
+                .build());
+        card.setScore(match.score());
+        return card;
+    }
+
+    /**
+     * Convierte una lista de Habilidad a HabilidadResponse.
+     *
+     * @param habilidades entidades a convertir
+     * @return lista de DTOs de respuesta, vacía si la entrada es nula
+     */
+    public List<HabilidadResponse> toHabilidadResponses(List<Habilidad> habilidades) {
+        return habilidades != null ?
+                habilidades.stream()
+                        .map(this::toHabilidadResponse)
+                        .collect(Collectors.toList()) : List.of();
+    }
+
+    /**
+     * Convierte una lista de ExperienciaLaboral a ExperienciaLaboralResponse.
+     *
+     * @param experiencias entidades a convertir
+     * @return lista de DTOs de respuesta, vacía si la entrada es nula
+     */
+    public List<ExperienciaLaboralResponse> toExperienciaLaboralResponses(List<ExperienciaLaboral> experiencias) {
+        return experiencias != null ?
+                experiencias.stream()
+                        .map(this::toExperienciaLaboralResponse)
+                        .collect(Collectors.toList()) : List.of();
+    }
+
+    /**
+     * Convierte una lista de Educacion a EducacionResponse.
+     *
+     * @param educacion entidades a convertir
+     * @return lista de DTOs de respuesta, vacía si la entrada es nula
+     */
+    public List<EducacionResponse> toEducacionResponses(List<Educacion> educacion) {
+        return educacion != null ?
+                educacion.stream()
+                        .map(this::toEducacionResponse)
+                        .collect(Collectors.toList()) : List.of();
+    }
+
+    /**
+     * Convierte una lista de Portafolio a PortafolioResponse.
+     *
+     * @param portafolio entidades a convertir
+     * @return lista de DTOs de respuesta, vacía si la entrada es nula
+     */
+    public List<PortafolioResponse> toPortafolioResponses(List<Portafolio> portafolio) {
+        return portafolio != null ?
+                portafolio.stream()
+                        .map(this::toPortafolioResponse)
+                        .collect(Collectors.toList()) : List.of();
+    }
+
     /**
      * Convierte InformacionPersonal a InformacionPersonalResponse.
      *
@@ -236,6 +378,7 @@ public class ProfileMapper {
         return Habilidad.builder()
                 .id(id)
                 .nombre(request.getNombre())
+                .nombreNormalizado(Habilidad.normalizarNombre(request.getNombre()))
                 .nivel(request.getNivel())
                 .build();
     }
@@ -302,5 +445,48 @@ public class ProfileMapper {
                 .documentoUrl(request.getDocumentoUrl())
                 .build();
     }
-}
 
+    /**
+     * Convierte una línea de importación a Profile.
+     * Los elementos sin identificador reciben uno nuevo; los metadatos y la versión
+     * los calcula la escritura en base de datos.
+     *
+     * @param request DTO de importación
+     * @return entidad
+     */
+    public Profile toProfile(ProfileImportRequest request) {
+        ProfileImportRequest.InformacionPersonalImport info = request.getInformacionPersonal();
+        InformacionPersonal informacionPersonal = info == null ? null : InformacionPersonal.builder()
+                .nombreCompleto(info.getNombreCompleto())
+                .tituloProfesional(info.getTituloProfesional())
+                .resumen(info.getResumen())
+                .ubicacion(toUbicacion(info.getUbicacion()))
+                .fotoUrl(info.getFotoUrl())
+                .email(info.getEmail())
+                .build();
+
+        return Profile.builder()
+                .id(request.getId())
+                .informacionPersonal(informacionPersonal)
+                .habilidades(toEntities(request.getHabilidades(), item -> toHabilidad(item, idOrNew(item.getId()))))
+                .experienciaLaboral(toEntities(request.getExperienciaLaboral(),
+                        item -> toExperienciaLaboral(item, idOrNew(item.getId()))))
+                .educacion(toEntities(request.getEducacion(), item -> toEducacion(item, idOrNew(item.getId()))))
+                .portafolio(toEntities(request.getPortafolio(), item -> toPortafolio(item, idOrNew(item.getId()))))
+                .build();
+    }
+
+    private static <T, R> List<R> toEntities(List<T> items, Function<T, R> mapper) {
+        if (items == null) {
+            return new ArrayList<>();
+        }
+        return items.stream()
+                .filter(Objects::nonNull)
+                .map(mapper)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static String idOrNew(String id) {
+        return id != null && !id.isBlank() ? id : UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Configuración de la pila reactiva (spring.main.web-application-type=reactive).
+ * En este modo los endpoints los sirven los controladores de este paquete sobre WebFlux:
+ * las lecturas usan el driver reactivo de MongoDB y las escrituras, que reutilizan los
+ * servicios bloqueantes, se ejecutan en {@link #profileBlockingScheduler} para no ocupar
+ * los hilos del event loop.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableReactiveMongoRepositories(basePackages = "com.udeajobs.profile.profile_service.reactive")
+public class ReactiveConfig {
+
+    /**
+     * Planificador de las operaciones bloqueantes invocadas desde la pila reactiva.
+     * Usa hilos virtuales si están habilitados y, si no, el planificador elástico acotado de Reactor.
+     *
+     * @param virtualThreads si los hilos virtuales están habilitados
+     * @return planificador para operaciones bloqueantes
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler profileBlockingScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return virtualThreads
+                ? Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "profile-blocking")
+                : Schedulers.boundedElastic();
+    }
+}
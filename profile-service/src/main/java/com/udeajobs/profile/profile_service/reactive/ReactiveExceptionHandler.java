@@ -0,0 +1,156 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.udeajobs.profile.profile_service.dto.response.ErrorResponse;
+import com.udeajobs.profile.profile_service.exception.AdminAccessDeniedException;
+import com.udeajobs.profile.profile_service.exception.ErrorResponses;
+import com.udeajobs.profile.profile_service.exception.GlobalExceptionHandler;
+import com.udeajobs.profile.profile_service.exception.InvalidDataException;
+import com.udeajobs.profile.profile_service.exception.ProfileNotFoundException;
+import com.udeajobs.profile.profile_service.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+
+/**
+ * Manejador de excepciones de la pila reactiva. Produce las mismas respuestas de error
+ * que {@link GlobalExceptionHandler}, construidas con {@link ErrorResponses}, adaptando las
+ * excepciones propias de WebFlux (validación y lectura del cuerpo).
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Maneja las excepciones cuando no se encuentra un perfil o un recurso del perfil.
+     *
+     * @param ex excepción lanzada
+     * @param exchange intercambio actual
+     * @return respuesta con código 404
+     */
+    @ExceptionHandler({ProfileNotFoundException.class, ResourceNotFoundException.class})
+    public ResponseEntity<ErrorResponse> handleNotFoundException(RuntimeException ex, ServerWebExchange exchange) {
+        log.warn("Recurso no encontrado: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), exchange, null);
+    }
+
+    /**
+     * Maneja las excepciones de datos inválidos.
+     *
+     * @param ex excepción lanzada
+     * @param exchange intercambio actual
+     * @return respuesta con código 400
+     */
+    @ExceptionHandler(InvalidDataException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDataException(InvalidDataException ex, ServerWebExchange exchange) {
+        log.error("Datos inválidos: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange, null);
+    }
+
+    /**
+     * Maneja las peticiones rechazadas a las operaciones administrativas.
+     *
+     * @param ex excepción lanzada
+     * @param exchange intercambio actual
+     * @return respuesta con código 401, o 404 si las operaciones no están habilitadas
+     */
+    @ExceptionHandler(AdminAccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAdminAccessDeniedException(AdminAccessDeniedException ex,
+                                                                          ServerWebExchange exchange) {
+        log.warn("Acceso administrativo rechazado en {}: {}", exchange.getRequest().getPath(), ex.getMessage());
+        return error(ex.getStatus(), ex.getMessage(), exchange, null);
+    }
+
+    /**
+     * Maneja los conflictos de concurrencia que persisten tras los reintentos.
+     *
+     * @param ex excepción lanzada
+     * @param exchange intercambio actual
+     * @return respuesta con código 409
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+        log.warn("Conflicto de concurrencia: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, ErrorResponses.CONFLICT_MESSAGE,
+                exchange, null);
+    }
+
+    /**
+     * Maneja los errores de validación de @Valid en los DTOs.
+     *
+     * @param ex excepción de validación
+     * @param exchange intercambio actual
+     * @return respuesta con código 400 y lista de errores de validación
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(WebExchangeBindException ex,
+                                                                   ServerWebExchange exchange) {
+        log.warn("Error de validación en la petición: {}", exchange.getRequest().getPath());
+
+        return error(HttpStatus.BAD_REQUEST, ErrorResponses.VALIDATION_MESSAGE, exchange,
+                ErrorResponses.validationErrors(ex.getFieldErrors()));
+    }
+
+    /**
+     * Maneja los cuerpos y parámetros de petición que no se pueden leer.
+     *
+     * @param ex excepción lanzada
+     * @param exchange intercambio actual
+     * @return respuesta con código 400
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex,
+                                                                       ServerWebExchange exchange) {
+        log.warn("Petición inválida en {}: {}", exchange.getRequest().getPath(), ex.getReason());
+        return error(HttpStatus.BAD_REQUEST, ErrorResponses.INVALID_BODY_MESSAGE, exchange, null);
+    }
+
+    /**
+     * Conserva el código de estado de las excepciones de WebFlux, como rutas inexistentes
+     * o tipos de contenido no admitidos.
+     *
+     * @param ex excepción lanzada
+     * @param exchange intercambio actual
+     * @return respuesta con el código de la excepción
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex,
+                                                                       ServerWebExchange exchange) {
+        log.warn("Petición rechazada en {}: {}", exchange.getRequest().getPath(), ex.getReason());
+        return error(ex.getStatusCode(), ex.getReason(), exchange, null);
+    }
+
+    /**
+     * Maneja excepciones genéricas no capturadas por otros manejadores.
+     *
+     * @param ex excepción lanzada
+     * @param exchange intercambio actual
+     * @return respuesta con código 500
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerWebExchange exchange) {
+        log.error("Error interno del servidor: ", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, ErrorResponses.INTERNAL_ERROR_MESSAGE,
+                exchange, null);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatusCode status, String message, ServerWebExchange exchange,
+                                                       List<ErrorResponse.ValidationError> errors) {
+        return ErrorResponses.of(status, message, exchange.getRequest().getPath().value(), errors);
+    }
+}
@@ -0,0 +1,212 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.udeajobs.profile.profile_service.controller.AdminAccess;
+import com.udeajobs.profile.profile_service.controller.ProfileAdminController;
+import com.udeajobs.profile.profile_service.dto.response.ProfileImportResponse;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.exception.InvalidDataException;
+import com.udeajobs.profile.profile_service.service.ProfileTransferService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Controlador REST reactivo de las operaciones administrativas masivas, con el mismo
+ * contrato que {@link ProfileAdminController}. La exportación y la importación reutilizan
+ * {@link ProfileTransferService} en el planificador de operaciones bloqueantes: la salida
+ * se publica como flujo de buffers a medida que se escribe y la entrada se consume con
+ * contrapresión, sin cargar el cuerpo completo en memoria.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "API para exportación e importación masiva de perfiles")
+public class ReactiveProfileAdminController {
+
+    /**
+     * Buffers de la petición solicitados por adelantado al leer una importación
+     */
+    private static final int IMPORT_DEMAND = 16;
+
+    private final ProfileTransferService profileTransferService;
+    private final AdminAccess adminAccess;
+    private final Scheduler profileBlockingScheduler;
+
+    /**
+     * Exporta los perfiles en formato NDJSON.
+     *
+     * @param authorization credencial de administración
+     * @param perfilCompleto filtra por completitud del perfil
+     * @param updatedSince exporta solo los perfiles actualizados desde esta fecha
+     * @param sections secciones a incluir en cada perfil
+     * @param gzip comprime la respuesta con gzip
+     * @param exchange intercambio actual, usado para obtener la fábrica de buffers
+     * @return flujo NDJSON con código 200
+     */
+    @Operation(
+            summary = "Exportar perfiles",
+            description = "Exporta la colección de perfiles en formato NDJSON (un perfil por línea, con la misma estructura que GET /{userId} más el email de la información personal), ordenada por identificador. Permite filtrar por completitud y fecha de última actualización, limitar las secciones exportadas y comprimir la respuesta con gzip."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Exportación en curso",
+                    content = @Content(mediaType = ProfileAdminController.NDJSON)
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Filtros inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token de administración ausente o incorrecto",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Operaciones administrativas no habilitadas en la instancia",
+                    content = @Content
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<Flux<DataBuffer>> exportProfiles(
+            @Parameter(description = "Token de administración: Bearer <token>")
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @Parameter(description = "Exportar solo perfiles completos (true) o incompletos (false)")
+            @RequestParam(required = false) Boolean perfilCompleto,
+            @Parameter(description = "Exportar solo perfiles actualizados desde esta fecha (ISO-8601)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @Parameter(description = "Secciones a incluir: personal-info, skills, experience, education, portfolio. Todas si se omite")
+            @RequestParam(required = false) List<String> sections,
+            @Parameter(description = "Comprimir la respuesta con gzip")
+            @RequestParam(defaultValue = "false") boolean gzip,
+            ServerWebExchange exchange) {
+
+        log.info("GET /api/v1/profiles/admin/export - Exportando perfiles");
+        adminAccess.check(authorization);
+        Set<ProfileSection> requestedSections = ProfileAdminController.toSections(sections);
+        DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+        Executor executor = task -> profileBlockingScheduler.schedule(task);
+
+        Flux<DataBuffer> body = DataBufferUtils.outputStreamPublisher(output -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(output);
+                    profileTransferService.exportProfiles(perfilCompleto, updatedSince, requestedSections, compressed);
+                    compressed.finish();
+                } else {
+                    profileTransferService.exportProfiles(perfilCompleto, updatedSince, requestedSections, output);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, bufferFactory, executor);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ProfileAdminController.NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"profiles.ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Importa perfiles desde un cuerpo NDJSON.
+     *
+     * @param authorization credencial de administración
+     * @param contentEncoding codificación del cuerpo; gzip si viene comprimido
+     * @param body flujo NDJSON con un perfil por línea
+     * @return resumen de la importación con código 200
+     */
+    @Operation(
+            summary = "Importar perfiles",
+            description = "Importa perfiles en formato NDJSON (un perfil por línea, con la misma estructura que la exportación). Cada perfil se valida con las mismas reglas que la API, salvo la información personal, en la que ningún campo es obligatorio para admitir perfiles base e incompletos, y se crea si no existe o se reemplaza su contenido si ya existe. Los perfiles se escriben en lotes en paralelo; las líneas inválidas o que no se pudieron escribir se reportan con su número de línea sin detener la importación. Acepta el cuerpo comprimido con Content-Encoding: gzip."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Importación finalizada",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileImportResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cuerpo ilegible",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token de administración ausente o incorrecto",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Operaciones administrativas no habilitadas en la instancia",
+                    content = @Content
+            )
+    })
+    @PostMapping(value = "/import", consumes = {ProfileAdminController.NDJSON, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public Mono<ResponseEntity<ProfileImportResponse>> importProfiles(
+            @Parameter(description = "Token de administración: Bearer <token>")
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @Parameter(description = "gzip si el cuerpo viene comprimido")
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestBody Flux<DataBuffer> body) {
+
+        log.info("POST /api/v1/profiles/admin/import - Importando perfiles");
+        adminAccess.check(authorization);
+        boolean gzip = "gzip".equalsIgnoreCase(contentEncoding);
+        return Mono.fromCallable(() -> {
+                    InputStream raw = DataBufferUtils.subscriberInputStream(body, IMPORT_DEMAND);
+                    try (InputStream input = gzip ? new GZIPInputStream(raw) : raw) {
+                        return profileTransferService.importProfiles(input);
+                    } catch (ZipException e) {
+                        throw new InvalidDataException("El cuerpo no es un gzip válido: " + e.getMessage());
+                    }
+                })
+                .subscribeOn(profileBlockingScheduler)
+                .map(ResponseEntity::ok);
+    }
+}
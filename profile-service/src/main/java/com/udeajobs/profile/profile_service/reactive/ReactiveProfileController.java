@@ -0,0 +1,916 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.udeajobs.profile.profile_service.controller.HttpCacheHeaders;
+import com.udeajobs.profile.profile_service.controller.ProfileController;
+import com.udeajobs.profile.profile_service.dto.request.*;
+import com.udeajobs.profile.profile_service.dto.response.*;
+import com.udeajobs.profile.profile_service.service.ProfileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Controlador REST reactivo de perfiles, con el mismo contrato que {@link ProfileController}
+ * (rutas, códigos de estado, cabeceras y cuerpos). Las lecturas no bloquean: se resuelven con
+ * {@link ReactiveProfileService} sobre el driver reactivo de MongoDB. Las escrituras reutilizan
+ * {@link ProfileService}, con sus reintentos, eventos de cambio e índice de habilidades, y se
+ * ejecutan en el planificador de operaciones bloqueantes.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/")
+@RequiredArgsConstructor
+@Tag(name = "Profiles", description = "API para gestión completa de perfiles de usuario")
+public class ReactiveProfileController {
+
+    private final ReactiveProfileService reactiveProfileService;
+    private final ProfileService profileService;
+    private final Scheduler profileBlockingScheduler;
+
+    /**
+     * Obtiene el perfil completo de un usuario, con las mismas peticiones condicionales
+     * y la misma compresión gzip que la pila servlet.
+     *
+     * @param userId identificador del usuario
+     * @param exchange intercambio actual, usado para evaluar las cabeceras condicionales
+     * @return perfil completo serializado con código 200, o 304 si no ha cambiado
+     */
+    @Operation(
+            summary = "Obtener perfil completo",
+            description = "Recupera toda la información del perfil de un usuario específico, incluyendo información personal, habilidades, experiencia laboral, educación y portafolio. Devuelve las cabeceras ETag y Last-Modified y responde 304 a peticiones condicionales cuando el perfil no ha cambiado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Perfil recuperado exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "El perfil no ha cambiado desde la versión indicada por el cliente",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado para el userId especificado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> getProfile(@PathVariable String userId, ServerWebExchange exchange) {
+        log.info("GET /api/v1/profiles/{} - Obteniendo perfil", userId);
+
+        return reactiveProfileService.getProfileVersion(userId).flatMap(version -> {
+            if (exchange.checkNotModified(
+                    HttpCacheHeaders.etagOf(version.getVersion(), version.getUltimaActualizacion()),
+                    toInstant(HttpCacheHeaders.lastModifiedOf(version.getUltimaActualizacion())))) {
+                log.debug("Perfil {} sin cambios, respondiendo 304", userId);
+                return Mono.<ResponseEntity<byte[]>>empty();
+            }
+            return reactiveProfileService.getSerializedProfile(userId, version.getVersion())
+                    .map(profile -> toResponse(profile, exchange));
+        });
+    }
+
+    /**
+     * Obtiene varios perfiles en una sola petición.
+     *
+     * @param request identificadores a consultar y secciones a incluir
+     * @return perfiles encontrados e identificadores no encontrados con código 200
+     */
+    @Operation(
+            summary = "Obtener perfiles en lote",
+            description = "Recupera hasta 100 perfiles con una única consulta, conservando el orden de los identificadores solicitados. Permite limitar las secciones devueltas; las secciones no solicitadas se devuelven como null. Los identificadores sin perfil se informan en missingIds en lugar de producir un 404."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Perfiles recuperados exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            )
+    })
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<ProfileBatchResponse>> getProfiles(@Valid @RequestBody ProfileBatchRequest request) {
+        log.info("POST /api/v1/profiles/batch - Obteniendo {} perfiles", request.getIds().size());
+        return reactiveProfileService.getProfiles(request).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Aplica varias operaciones sobre las secciones del perfil en una sola petición.
+     *
+     * @param userId identificador del usuario
+     * @param request operaciones a aplicar y versión esperada
+     * @return identificadores de los elementos afectados y nueva versión con código 200
+     */
+    @Operation(
+            summary = "Editar varias secciones del perfil",
+            description = "Aplica en orden hasta 50 operaciones ADD, UPDATE y DELETE sobre las secciones del perfil (personal-info solo admite UPDATE) con una única escritura. El valor de cada operación tiene la misma estructura y validaciones que el endpoint de su sección. Todas las operaciones se validan antes de aplicar ninguna y, si alguna falla, el perfil no se modifica. Devuelve el identificador del elemento afectado por cada operación (el generado en ADD) y la nueva versión del perfil. Si se indica expectedVersion y el perfil cambió, responde 409."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Operaciones aplicadas exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfilePatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Alguna operación no es válida",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o elemento no encontrado",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "El perfil no está en la versión esperada",
+                    content = @Content
+            )
+    })
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<ProfilePatchResponse>> patchProfile(@PathVariable String userId,
+                                                                   @Valid @RequestBody ProfilePatchRequest request) {
+        log.info("PATCH /api/v1/profiles/{} - Aplicando {} operaciones", userId, request.getOperations().size());
+        return blocking(() -> profileService.patchProfile(userId, request)).map(ResponseEntity::ok);
+    }
+
+    // ==================== INFORMACIÓN PERSONAL ====================
+
+    /**
+     * Obtiene la información personal del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return información personal con código 200
+     */
+    @Operation(
+            summary = "Obtener información personal",
+            description = "Recupera únicamente la sección de información personal del perfil, sin cargar el resto del documento."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Información personal recuperada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = InformacionPersonalResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/personal-info")
+    public Mono<ResponseEntity<InformacionPersonalResponse>> getPersonalInfo(@PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/personal-info - Obteniendo información personal", userId);
+        return reactiveProfileService.getInformacionPersonal(userId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Actualiza la información personal del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param request datos de información personal
+     * @return información personal actualizada con código 200
+     */
+    @Operation(
+            summary = "Actualizar información personal",
+            description = "Actualiza la sección de información personal del perfil (nombre completo, título profesional, resumen, ubicación y foto). Esta operación reemplaza toda la sección."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Información personal actualizada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = InformacionPersonalResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @PutMapping("/{userId}/personal-info")
+    public Mono<ResponseEntity<InformacionPersonalResponse>> updatePersonalInfo(
+            @PathVariable String userId,
+            @Valid @RequestBody InformacionPersonalRequest request) {
+        log.info("PUT /api/v1/profiles/{}/personal-info - Actualizando información personal", userId);
+        return blocking(() -> profileService.updateInformacionPersonal(userId, request)).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Modifica campos concretos de la información personal (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return información personal resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente la información personal",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json): solo se modifican los campos enviados y los campos con valor null se eliminan; ubicacion se combina campo a campo. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios. El email no es modificable."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = InformacionPersonalResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/personal-info", consumes = ProfileController.MERGE_PATCH_JSON)
+    public Mono<ResponseEntity<InformacionPersonalResponse>> patchPersonalInfo(@PathVariable String userId,
+                                                                               @RequestBody JsonNode patch) {
+        log.info("PATCH /api/v1/profiles/{}/personal-info - Modificando información personal", userId);
+        return blocking(() -> profileService.patchInformacionPersonal(userId, patch)).map(ResponseEntity::ok);
+    }
+
+    // ==================== EXPERIENCIA LABORAL ====================
+
+    /**
+     * Obtiene la experiencia laboral del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de experiencias laborales con código 200
+     */
+    @Operation(
+            summary = "Listar experiencia laboral",
+            description = "Recupera únicamente el historial de experiencia laboral del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Experiencia laboral recuperada exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ExperienciaLaboralResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/experience")
+    public Mono<ResponseEntity<List<ExperienciaLaboralResponse>>> getExperience(@PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/experience - Obteniendo experiencia laboral", userId);
+        return reactiveProfileService.getExperienciaLaboral(userId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Añade una nueva experiencia laboral al perfil.
+     *
+     * @param userId identificador del usuario
+     * @param request datos de la experiencia
+     * @return experiencia creada con código 201
+     */
+    @Operation(
+            summary = "Agregar experiencia laboral",
+            description = "Añade una nueva entrada de experiencia laboral al historial profesional del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Experiencia laboral creada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExperienciaLaboralResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @PostMapping("/{userId}/experience")
+    public Mono<ResponseEntity<ExperienciaLaboralResponse>> addExperience(
+            @PathVariable String userId,
+            @Valid @RequestBody ExperienciaLaboralRequest request) {
+        log.info("POST /api/v1/profiles/{}/experience - Añadiendo experiencia laboral", userId);
+        return blocking(() -> profileService.addExperienciaLaboral(userId, request)).map(ReactiveProfileController::created);
+    }
+
+    /**
+     * Actualiza una experiencia laboral existente.
+     *
+     * @param userId identificador del usuario
+     * @param experienceId identificador de la experiencia
+     * @param request datos actualizados
+     * @return experiencia actualizada con código 200
+     */
+    @Operation(
+            summary = "Actualizar experiencia laboral",
+            description = "Modifica los datos de una experiencia laboral existente en el perfil del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Experiencia laboral actualizada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExperienciaLaboralResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o experiencia laboral no encontrada",
+                    content = @Content
+            )
+    })
+    @PutMapping("/{userId}/experience/{experienceId}")
+    public Mono<ResponseEntity<ExperienciaLaboralResponse>> updateExperience(
+            @PathVariable String userId,
+            @PathVariable String experienceId,
+            @Valid @RequestBody ExperienciaLaboralRequest request) {
+        log.info("PUT /api/v1/profiles/{}/experience/{} - Actualizando experiencia", userId, experienceId);
+        return blocking(() -> profileService.updateExperienciaLaboral(userId, experienceId, request))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Modifica campos concretos de una experiencia laboral (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param experienceId identificador de la experiencia
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return experiencia resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente experiencia laboral",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json) sobre la experiencia: solo se modifican los campos enviados y los campos con valor null se eliminan. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExperienciaLaboralResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o experiencia no encontrada",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/experience/{experienceId}", consumes = ProfileController.MERGE_PATCH_JSON)
+    public Mono<ResponseEntity<ExperienciaLaboralResponse>> patchExperience(
+            @PathVariable String userId,
+            @PathVariable String experienceId,
+            @RequestBody JsonNode patch) {
+        log.info("PATCH /api/v1/profiles/{}/experience/{} - Modificando experiencia", userId, experienceId);
+        return blocking(() -> profileService.patchExperienciaLaboral(userId, experienceId, patch))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Elimina una experiencia laboral del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param experienceId identificador de la experiencia
+     * @return respuesta vacía con código 204
+     */
+    @Operation(
+            summary = "Eliminar experiencia laboral",
+            description = "Elimina una entrada de experiencia laboral del historial profesional del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Experiencia laboral eliminada exitosamente",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o experiencia laboral no encontrada",
+                    content = @Content
+            )
+    })
+    @DeleteMapping("/{userId}/experience/{experienceId}")
+    public Mono<ResponseEntity<Void>> deleteExperience(@PathVariable String userId,
+                                                       @PathVariable String experienceId) {
+        log.info("DELETE /api/v1/profiles/{}/experience/{} - Eliminando experiencia", userId, experienceId);
+        return blockingDelete(() -> profileService.deleteExperienciaLaboral(userId, experienceId));
+    }
+
+    // ==================== HABILIDADES ====================
+
+    /**
+     * Obtiene las habilidades del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de habilidades con código 200
+     */
+    @Operation(
+            summary = "Listar habilidades",
+            description = "Recupera únicamente las habilidades del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Habilidades recuperadas exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = HabilidadResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/skills")
+    public Mono<ResponseEntity<List<HabilidadResponse>>> getSkills(@PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/skills - Obteniendo habilidades", userId);
+        return reactiveProfileService.getHabilidades(userId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Añade una nueva habilidad al perfil.
+     *
+     * @param userId identificador del usuario
+     * @param request datos de la habilidad
+     * @return habilidad creada con código 201
+     */
+    @Operation(
+            summary = "Agregar habilidad",
+            description = "Añade una nueva habilidad al conjunto de competencias del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Habilidad creada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = HabilidadResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @PostMapping("/{userId}/skills")
+    public Mono<ResponseEntity<HabilidadResponse>> addSkill(@PathVariable String userId,
+                                                            @Valid @RequestBody HabilidadRequest request) {
+        log.info("POST /api/v1/profiles/{}/skills - Añadiendo habilidad", userId);
+        return blocking(() -> profileService.addHabilidad(userId, request)).map(ReactiveProfileController::created);
+    }
+
+    /**
+     * Elimina una habilidad del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param skillId identificador de la habilidad
+     * @return respuesta vacía con código 204
+     */
+    @Operation(
+            summary = "Eliminar habilidad",
+            description = "Elimina una habilidad del conjunto de competencias del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Habilidad eliminada exitosamente",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o habilidad no encontrada",
+                    content = @Content
+            )
+    })
+    @DeleteMapping("/{userId}/skills/{skillId}")
+    public Mono<ResponseEntity<Void>> deleteSkill(@PathVariable String userId, @PathVariable String skillId) {
+        log.info("DELETE /api/v1/profiles/{}/skills/{} - Eliminando habilidad", userId, skillId);
+        return blockingDelete(() -> profileService.deleteHabilidad(userId, skillId));
+    }
+
+    // ==================== EDUCACIÓN ====================
+
+    /**
+     * Obtiene la formación académica del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de educación con código 200
+     */
+    @Operation(
+            summary = "Listar educación",
+            description = "Recupera únicamente la formación académica del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Educación recuperada exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EducacionResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/education")
+    public Mono<ResponseEntity<List<EducacionResponse>>> getEducation(@PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/education - Obteniendo educación", userId);
+        return reactiveProfileService.getEducacion(userId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Añade una nueva formación académica al perfil.
+     *
+     * @param userId identificador del usuario
+     * @param request datos de la educación
+     * @return educación creada con código 201
+     */
+    @Operation(
+            summary = "Agregar educación",
+            description = "Añade una nueva entrada de educación al historial académico del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Educación creada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EducacionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @PostMapping("/{userId}/education")
+    public Mono<ResponseEntity<EducacionResponse>> addEducation(@PathVariable String userId,
+                                                                @Valid @RequestBody EducacionRequest request) {
+        log.info("POST /api/v1/profiles/{}/education - Añadiendo educación", userId);
+        return blocking(() -> profileService.addEducacion(userId, request)).map(ReactiveProfileController::created);
+    }
+
+    /**
+     * Actualiza una formación académica existente.
+     *
+     * @param userId identificador del usuario
+     * @param educationId identificador de la educación
+     * @param request datos actualizados
+     * @return educación actualizada con código 200
+     */
+    @Operation(
+            summary = "Actualizar educación",
+            description = "Modifica los datos de una entrada de educación existente en el perfil del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Educación actualizada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EducacionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o educación no encontrada",
+                    content = @Content
+            )
+    })
+    @PutMapping("/{userId}/education/{educationId}")
+    public Mono<ResponseEntity<EducacionResponse>> updateEducation(@PathVariable String userId,
+                                                                   @PathVariable String educationId,
+                                                                   @Valid @RequestBody EducacionRequest request) {
+        log.info("PUT /api/v1/profiles/{}/education/{} - Actualizando educación", userId, educationId);
+        return blocking(() -> profileService.updateEducacion(userId, educationId, request)).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Modifica campos concretos de una formación académica (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param educationId identificador de la educación
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return educación resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente educación",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json) sobre la educación: solo se modifican los campos enviados y los campos con valor null se eliminan. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EducacionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o educación no encontrada",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/education/{educationId}", consumes = ProfileController.MERGE_PATCH_JSON)
+    public Mono<ResponseEntity<EducacionResponse>> patchEducation(@PathVariable String userId,
+                                                                  @PathVariable String educationId,
+                                                                  @RequestBody JsonNode patch) {
+        log.info("PATCH /api/v1/profiles/{}/education/{} - Modificando educación", userId, educationId);
+        return blocking(() -> profileService.patchEducacion(userId, educationId, patch)).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Elimina una formación académica del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param educationId identificador de la educación
+     * @return respuesta vacía con código 204
+     */
+    @Operation(
+            summary = "Eliminar educación",
+            description = "Elimina una entrada de educación del historial académico del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Educación eliminada exitosamente",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o educación no encontrada",
+                    content = @Content
+            )
+    })
+    @DeleteMapping("/{userId}/education/{educationId}")
+    public Mono<ResponseEntity<Void>> deleteEducation(@PathVariable String userId,
+                                                      @PathVariable String educationId) {
+        log.info("DELETE /api/v1/profiles/{}/education/{} - Eliminando educación", userId, educationId);
+        return blockingDelete(() -> profileService.deleteEducacion(userId, educationId));
+    }
+
+    // ==================== PORTAFOLIO ====================
+
+    /**
+     * Obtiene los proyectos del portafolio.
+     *
+     * @param userId identificador del usuario
+     * @return lista de proyectos con código 200
+     */
+    @Operation(
+            summary = "Listar portafolio",
+            description = "Recupera únicamente los proyectos del portafolio del usuario, sin cargar el resto del perfil."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Portafolio recuperado exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = PortafolioResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @GetMapping("/{userId}/portfolio")
+    public Mono<ResponseEntity<List<PortafolioResponse>>> getPortfolio(@PathVariable String userId) {
+        log.info("GET /api/v1/profiles/{}/portfolio - Obteniendo portafolio", userId);
+        return reactiveProfileService.getPortafolio(userId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Añade un nuevo proyecto al portafolio.
+     *
+     * @param userId identificador del usuario
+     * @param request datos del proyecto
+     * @return proyecto creado con código 201
+     */
+    @Operation(
+            summary = "Agregar proyecto al portafolio",
+            description = "Añade un nuevo proyecto al portafolio del usuario con su título, descripción, URL y documentos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Proyecto agregado exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortafolioResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil no encontrado",
+                    content = @Content
+            )
+    })
+    @PostMapping("/{userId}/portfolio")
+    public Mono<ResponseEntity<PortafolioResponse>> addPortfolio(@PathVariable String userId,
+                                                                 @Valid @RequestBody PortafolioRequest request) {
+        log.info("POST /api/v1/profiles/{}/portfolio - Añadiendo proyecto al portafolio", userId);
+        return blocking(() -> profileService.addPortafolio(userId, request)).map(ReactiveProfileController::created);
+    }
+
+    /**
+     * Actualiza un proyecto existente del portafolio.
+     *
+     * @param userId identificador del usuario
+     * @param portfolioId identificador del proyecto
+     * @param request datos actualizados
+     * @return proyecto actualizado con código 200
+     */
+    @Operation(
+            summary = "Actualizar proyecto del portafolio",
+            description = "Modifica los datos de un proyecto existente en el portafolio del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Proyecto actualizado exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortafolioResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o proyecto no encontrado",
+                    content = @Content
+            )
+    })
+    @PutMapping("/{userId}/portfolio/{portfolioId}")
+    public Mono<ResponseEntity<PortafolioResponse>> updatePortfolio(@PathVariable String userId,
+                                                                    @PathVariable String portfolioId,
+                                                                    @Valid @RequestBody PortafolioRequest request) {
+        log.info("PUT /api/v1/profiles/{}/portfolio/{} - Actualizando proyecto", userId, portfolioId);
+        return blocking(() -> profileService.updatePortafolio(userId, portfolioId, request)).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Modifica campos concretos de un proyecto del portafolio (JSON Merge Patch).
+     *
+     * @param userId identificador del usuario
+     * @param portfolioId identificador del proyecto
+     * @param patch documento JSON Merge Patch con los campos a modificar
+     * @return proyecto resultante con código 200
+     */
+    @Operation(
+            summary = "Modificar parcialmente proyecto del portafolio",
+            description = "Aplica un JSON Merge Patch (RFC 7396, Content-Type application/merge-patch+json) sobre el proyecto: solo se modifican los campos enviados y los campos con valor null se eliminan. Los valores se validan con las mismas reglas que el PUT y no se pueden eliminar campos obligatorios."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Modificación aplicada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortafolioResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Merge patch inválido",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o proyecto no encontrado",
+                    content = @Content
+            )
+    })
+    @PatchMapping(value = "/{userId}/portfolio/{portfolioId}", consumes = ProfileController.MERGE_PATCH_JSON)
+    public Mono<ResponseEntity<PortafolioResponse>> patchPortfolio(@PathVariable String userId,
+                                                                   @PathVariable String portfolioId,
+                                                                   @RequestBody JsonNode patch) {
+        log.info("PATCH /api/v1/profiles/{}/portfolio/{} - Modificando proyecto", userId, portfolioId);
+        return blocking(() -> profileService.patchPortafolio(userId, portfolioId, patch)).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Elimina un proyecto del portafolio.
+     *
+     * @param userId identificador del usuario
+     * @param portfolioId identificador del proyecto
+     * @return respuesta vacía con código 204
+     */
+    @Operation(
+            summary = "Eliminar proyecto del portafolio",
+            description = "Elimina un proyecto del portafolio del usuario."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Proyecto eliminado exitosamente",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Perfil o proyecto no encontrado",
+                    content = @Content
+            )
+    })
+    @DeleteMapping("/{userId}/portfolio/{portfolioId}")
+    public Mono<ResponseEntity<Void>> deletePortfolio(@PathVariable String userId,
+                                                      @PathVariable String portfolioId) {
+        log.info("DELETE /api/v1/profiles/{}/portfolio/{} - Eliminando proyecto", userId, portfolioId);
+        return blockingDelete(() -> profileService.deletePortafolio(userId, portfolioId));
+    }
+
+    /**
+     * Ejecuta una operación del servicio bloqueante en el planificador de operaciones bloqueantes.
+     */
+    private <T> Mono<T> blocking(Callable<T> operation) {
+        return Mono.fromCallable(operation).subscribeOn(profileBlockingScheduler);
+    }
+
+    /**
+     * Ejecuta una eliminación del servicio bloqueante y responde 204.
+     */
+    private Mono<ResponseEntity<Void>> blockingDelete(Runnable operation) {
+        return Mono.fromRunnable(operation)
+                .subscribeOn(profileBlockingScheduler)
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    private static <T> ResponseEntity<T> created(T body) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(body);
+    }
+
+    private static ResponseEntity<byte[]> toResponse(SerializedProfile profile, ServerWebExchange exchange) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(HttpCacheHeaders.etagOf(profile.version(), profile.ultimaActualizacion()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (profile.ultimaActualizacion() != null) {
+            response.lastModified(HttpCacheHeaders.lastModifiedOf(profile.ultimaActualizacion()));
+        }
+        String acceptEncoding = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+        if (profile.gzip() != null && HttpCacheHeaders.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(profile.gzip());
+        }
+        return response.body(profile.json());
+    }
+
+    /**
+     * Convierte los milisegundos de Last-Modified en instante; -1 (sin fecha) desactiva la comparación.
+     */
+    private static Instant toInstant(long lastModified) {
+        return lastModified >= 0 ? Instant.ofEpochMilli(lastModified) : Instant.MIN;
+    }
+}
@@ -0,0 +1,17 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.udeajobs.profile.profile_service.entity.Profile;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio reactivo de perfiles, contraparte de
+ * {@link com.udeajobs.profile.profile_service.repository.ProfileRepository} para la pila reactiva.
+ * Incluye las lecturas con proyección de {@link ReactiveProfileRepositoryCustom}.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Repository
+public interface ReactiveProfileRepository extends ReactiveMongoRepository<Profile, String>, ReactiveProfileRepositoryCustom {
+}
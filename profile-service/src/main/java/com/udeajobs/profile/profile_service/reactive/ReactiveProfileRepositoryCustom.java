@@ -0,0 +1,55 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileVersionView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Lecturas de solo consulta del perfil sobre el driver reactivo de MongoDB, con las mismas
+ * proyecciones y la misma preferencia de lectura que
+ * {@link com.udeajobs.profile.profile_service.repository.ProfileRepositoryCustom}.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public interface ReactiveProfileRepositoryCustom {
+
+    /**
+     * Obtiene un perfil completo, sin los eventos pendientes del outbox.
+     *
+     * @param userId identificador del usuario
+     * @return perfil, vacío si no existe
+     */
+    Mono<Profile> readProfile(String userId);
+
+    /**
+     * Obtiene únicamente la versión y los metadatos de un perfil.
+     *
+     * @param userId identificador del usuario
+     * @return proyección con versión y metadatos, vacía si no existe
+     */
+    Mono<ProfileVersionView> readVersion(String userId);
+
+    /**
+     * Obtiene un perfil cargando únicamente la sección indicada y la versión.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a cargar
+     * @return perfil con la sección proyectada, vacío si no existe
+     */
+    Mono<Profile> readSection(String userId, ProfileSection section);
+
+    /**
+     * Obtiene varios perfiles con una única consulta $in.
+     * Si se indican secciones, solo se cargan esas secciones junto con los metadatos y la versión.
+     *
+     * @param userIds identificadores de los usuarios
+     * @param sections secciones a cargar, todas si es nulo o vacío
+     * @return perfiles encontrados, sin orden garantizado
+     */
+    Flux<Profile> findAllByIds(Collection<String> userIds, Collection<ProfileSection> sections);
+}
@@ -0,0 +1,87 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.mongodb.ReadPreference;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileVersionView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Implementación reactiva de las lecturas de solo consulta del perfil.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class ReactiveProfileRepositoryCustomImpl implements ReactiveProfileRepositoryCustom {
+
+    /**
+     * Campo del documento de perfil que contiene los eventos de cambio pendientes de publicar
+     */
+    private static final String OUTBOX_FIELD = "outbox";
+
+    /**
+     * Campo del documento de perfil con la concesión del relay que tiene reclamados sus eventos pendientes
+     */
+    private static final String OUTBOX_LEASE_FIELD = "outboxLease";
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ReadPreference profileReadPreference;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Profile> readProfile(String userId) {
+        Query query = byUserId(userId);
+        query.fields().exclude(OUTBOX_FIELD).exclude(OUTBOX_LEASE_FIELD);
+        return reactiveMongoTemplate.findOne(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<ProfileVersionView> readVersion(String userId) {
+        Query query = byUserId(userId);
+        query.fields().include("version", "metadata");
+        return reactiveMongoTemplate.findOne(query, ProfileVersionView.class,
+                reactiveMongoTemplate.getCollectionName(Profile.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Profile> readSection(String userId, ProfileSection section) {
+        Query query = byUserId(userId);
+        query.fields().include(section.getField(), "version");
+        return reactiveMongoTemplate.findOne(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<Profile> findAllByIds(Collection<String> userIds, Collection<ProfileSection> sections) {
+        Query query = Query.query(Criteria.where("id").in(userIds)).withReadPreference(profileReadPreference);
+        if (sections != null && !sections.isEmpty()) {
+            sections.forEach(section -> query.fields().include(section.getField()));
+            query.fields().include("metadata", "version");
+        } else {
+            query.fields().exclude(OUTBOX_FIELD).exclude(OUTBOX_LEASE_FIELD);
+        }
+        return reactiveMongoTemplate.find(query, Profile.class);
+    }
+
+    private Query byUserId(String userId) {
+        return Query.query(Criteria.where("id").is(userId)).withReadPreference(profileReadPreference);
+    }
+}
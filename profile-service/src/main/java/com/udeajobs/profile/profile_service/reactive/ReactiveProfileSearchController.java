@@ -0,0 +1,105 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.udeajobs.profile.profile_service.controller.ProfileSearchController;
+import com.udeajobs.profile.profile_service.dto.request.SkillSearchRequest;
+import com.udeajobs.profile.profile_service.dto.request.TextSearchRequest;
+import com.udeajobs.profile.profile_service.dto.response.ProfileSearchResponse;
+import com.udeajobs.profile.profile_service.service.ProfileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Controlador REST reactivo de búsqueda de talento, con el mismo contrato que
+ * {@link ProfileSearchController}. Las búsquedas se resuelven mayoritariamente en el
+ * índice de habilidades en memoria, por lo que reutilizan {@link ProfileService} en
+ * el planificador de operaciones bloqueantes.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "API para búsqueda de perfiles")
+public class ReactiveProfileSearchController {
+
+    private final ProfileService profileService;
+    private final Scheduler profileBlockingScheduler;
+
+    /**
+     * Busca perfiles por habilidades y nivel mínimo.
+     *
+     * @param request habilidades requeridas, tamaño de página y cursor
+     * @return página de resúmenes de perfil con código 200
+     */
+    @Operation(
+            summary = "Buscar perfiles por habilidades",
+            description = "Devuelve los perfiles que tienen todas (mode ALL) o alguna (mode ANY) de las habilidades indicadas con al menos el nivel mínimo (BASICO < INTERMEDIO < AVANZADO < EXPERTO). El nombre de la habilidad no distingue mayúsculas y minúsculas. Los resultados se paginan por cursor: para obtener la página siguiente se repite la búsqueda enviando el nextCursor recibido."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Búsqueda realizada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileSearchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Criterios de búsqueda o cursor inválidos",
+                    content = @Content
+            )
+    })
+    @PostMapping("/skills")
+    public Mono<ResponseEntity<ProfileSearchResponse>> searchBySkills(@Valid @RequestBody SkillSearchRequest request) {
+        log.info("POST /api/v1/profiles/search/skills - Buscando por {} habilidades", request.getSkills().size());
+        return Mono.fromCallable(() -> profileService.searchBySkills(request))
+                .subscribeOn(profileBlockingScheduler)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Busca perfiles por texto libre.
+     *
+     * @param request texto a buscar, tamaño de página y cursor
+     * @return página de resúmenes de perfil ordenados por relevancia con código 200
+     */
+    @Operation(
+            summary = "Buscar perfiles por texto",
+            description = "Busca el texto en el título profesional, el resumen y las descripciones de experiencia laboral, con stemming en español. Los resultados se ordenan por relevancia (score), ponderando más las coincidencias en el título profesional que en el resumen y en la experiencia, y se paginan por cursor enviando el nextCursor recibido."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Búsqueda realizada exitosamente",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfileSearchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Texto de búsqueda o cursor inválidos",
+                    content = @Content
+            )
+    })
+    @PostMapping("/text")
+    public Mono<ResponseEntity<ProfileSearchResponse>> searchByText(@Valid @RequestBody TextSearchRequest request) {
+        log.info("POST /api/v1/profiles/search/text - Buscando por texto");
+        return Mono.fromCallable(() -> profileService.searchByText(request))
+                .subscribeOn(profileBlockingScheduler)
+                .map(ResponseEntity::ok);
+    }
+}
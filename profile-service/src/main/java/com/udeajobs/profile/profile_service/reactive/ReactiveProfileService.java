@@ -0,0 +1,86 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.udeajobs.profile.profile_service.dto.request.ProfileBatchRequest;
+import com.udeajobs.profile.profile_service.dto.response.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Lecturas no bloqueantes de perfiles para la pila reactiva. Devuelven los mismos DTOs
+ * que {@link com.udeajobs.profile.profile_service.service.ProfileService} y señalan
+ * {@link com.udeajobs.profile.profile_service.exception.ProfileNotFoundException} como
+ * error cuando el perfil no existe.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public interface ReactiveProfileService {
+
+    /**
+     * Obtiene la versión y la fecha de última actualización del perfil
+     * sin cargar el documento completo.
+     *
+     * @param userId identificador del usuario
+     * @return validadores del perfil
+     */
+    Mono<ProfileVersionResponse> getProfileVersion(String userId);
+
+    /**
+     * Obtiene el perfil completo ya serializado a JSON desde la caché de perfiles serializados,
+     * leyéndolo y serializándolo si la versión indicada no está en caché.
+     *
+     * @param userId identificador del usuario
+     * @param version versión vigente del perfil
+     * @return perfil serializado
+     */
+    Mono<SerializedProfile> getSerializedProfile(String userId, Long version);
+
+    /**
+     * Obtiene varios perfiles con una única consulta, conservando el orden solicitado.
+     *
+     * @param request identificadores y secciones a incluir
+     * @return perfiles encontrados e identificadores no encontrados
+     */
+    Mono<ProfileBatchResponse> getProfiles(ProfileBatchRequest request);
+
+    /**
+     * Obtiene únicamente la información personal del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return información personal
+     */
+    Mono<InformacionPersonalResponse> getInformacionPersonal(String userId);
+
+    /**
+     * Obtiene únicamente las habilidades del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de habilidades
+     */
+    Mono<List<HabilidadResponse>> getHabilidades(String userId);
+
+    /**
+     * Obtiene únicamente la experiencia laboral del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de experiencias
+     */
+    Mono<List<ExperienciaLaboralResponse>> getExperienciaLaboral(String userId);
+
+    /**
+     * Obtiene únicamente la educación del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de educación
+     */
+    Mono<List<EducacionResponse>> getEducacion(String userId);
+
+    /**
+     * Obtiene únicamente los proyectos del portafolio.
+     *
+     * @param userId identificador del usuario
+     * @return lista de proyectos
+     */
+    Mono<List<PortafolioResponse>> getPortafolio(String userId);
+}
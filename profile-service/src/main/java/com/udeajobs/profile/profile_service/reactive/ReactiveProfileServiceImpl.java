@@ -0,0 +1,158 @@
+package com.udeajobs.profile.profile_service.reactive;
+
+import com.udeajobs.profile.profile_service.dto.request.ProfileBatchRequest;
+import com.udeajobs.profile.profile_service.dto.response.*;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.exception.ProfileNotFoundException;
+import com.udeajobs.profile.profile_service.mapper.ProfileMapper;
+import com.udeajobs.profile.profile_service.service.SerializedProfileCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementación de las lecturas no bloqueantes de perfiles sobre
+ * {@link ReactiveProfileRepository}. Comparte con la pila servlet la caché de perfiles
+ * serializados y los mappers, por lo que las respuestas son idénticas en ambos modos.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProfileServiceImpl implements ReactiveProfileService {
+
+    private final ReactiveProfileRepository reactiveProfileRepository;
+    private final ProfileMapper profileMapper;
+    private final SerializedProfileCache serializedProfileCache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<ProfileVersionResponse> getProfileVersion(String userId) {
+        return reactiveProfileRepository.readVersion(userId)
+                .switchIfEmpty(Mono.error(() -> ProfileNotFoundException.forUserId(userId)))
+                .map(view -> ProfileVersionResponse.builder()
+                        .version(view.version())
+                        .ultimaActualizacion(view.metadata() != null ? view.metadata().getUltimaActualizacion() : null)
+                        .build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<SerializedProfile> getSerializedProfile(String userId, Long version) {
+        SerializedProfile cached = serializedProfileCache.get(userId, version);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        log.info("Serializando perfil para el usuario: {}", userId);
+        return reactiveProfileRepository.readProfile(userId)
+                .switchIfEmpty(Mono.error(() -> ProfileNotFoundException.forUserId(userId)))
+                .map(serializedProfileCache::put);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<ProfileBatchResponse> getProfiles(ProfileBatchRequest request) {
+        Set<String> requestedIds = new LinkedHashSet<>(request.getIds());
+        log.info("Obteniendo {} perfiles en lote", requestedIds.size());
+
+        return reactiveProfileRepository.findAllByIds(requestedIds, request.getSections())
+                .collectMap(Profile::getId)
+                .map(found -> toBatchResponse(requestedIds, found, request.getSections()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<InformacionPersonalResponse> getInformacionPersonal(String userId) {
+        log.info("Obteniendo información personal para el usuario: {}", userId);
+        return readSection(userId, ProfileSection.INFORMACION_PERSONAL)
+                .map(profile -> profileMapper.toInformacionPersonalResponse(profile.getInformacionPersonal()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<List<HabilidadResponse>> getHabilidades(String userId) {
+        log.info("Obteniendo habilidades para el usuario: {}", userId);
+        return readSection(userId, ProfileSection.HABILIDADES)
+                .map(profile -> profileMapper.toHabilidadResponses(profile.getHabilidades()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<List<ExperienciaLaboralResponse>> getExperienciaLaboral(String userId) {
+        log.info("Obteniendo experiencia laboral para el usuario: {}", userId);
+        return readSection(userId, ProfileSection.EXPERIENCIA_LABORAL)
+                .map(profile -> profileMapper.toExperienciaLaboralResponses(profile.getExperienciaLaboral()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<List<EducacionResponse>> getEducacion(String userId) {
+        log.info("Obteniendo educación para el usuario: {}", userId);
+        return readSection(userId, ProfileSection.EDUCACION)
+                .map(profile -> profileMapper.toEducacionResponses(profile.getEducacion()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<List<PortafolioResponse>> getPortafolio(String userId) {
+        log.info("Obteniendo portafolio para el usuario: {}", userId);
+        return readSection(userId, ProfileSection.PORTAFOLIO)
+                .map(profile -> profileMapper.toPortafolioResponses(profile.getPortafolio()));
+    }
+
+    private Mono<Profile> readSection(String userId, ProfileSection section) {
+        return reactiveProfileRepository.readSection(userId, section)
+                .switchIfEmpty(Mono.error(() -> ProfileNotFoundException.forUserId(userId)));
+    }
+
+    /**
+     * Ordena los perfiles encontrados según los identificadores solicitados.
+     */
+    private ProfileBatchResponse toBatchResponse(Set<String> requestedIds, Map<String, Profile> found,
+                                                 Set<ProfileSection> sections) {
+        List<ProfileResponse> profiles = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String userId : requestedIds) {
+            Profile profile = found.get(userId);
+            if (profile != null) {
+                profiles.add(profileMapper.toProfileResponse(profile, sections));
+            } else {
+                missingIds.add(userId);
+            }
+        }
+
+        log.debug("Perfiles en lote: {} encontrados, {} no encontrados", profiles.size(), missingIds.size());
+        return ProfileBatchResponse.builder()
+                .profiles(profiles)
+                .missingIds(missingIds)
+                .build();
+    }
+}
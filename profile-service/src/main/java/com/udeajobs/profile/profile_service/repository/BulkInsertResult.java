@@ -0,0 +1,19 @@
+package com.udeajobs.profile.profile_service.repository;
+
+import java.util.Map;
+
+/**
+ * Resultado de una inserción masiva de perfiles que aún no existen.
+ *
+ * @param inserted perfiles nuevos creados
+ * @param rejected motivo por identificador de los perfiles que no se crearon por un conflicto
+ *                 distinto de que el perfil ya existiera, como un email registrado en otro perfil
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record BulkInsertResult(
+        int inserted,
+        Map<String, String> rejected
+) {
+}
@@ -0,0 +1,20 @@
+package com.udeajobs.profile.profile_service.repository;
+
+import java.util.Map;
+
+/**
+ * Resultado de una escritura masiva de perfiles.
+ *
+ * @param inserted perfiles nuevos creados
+ * @param updated perfiles existentes actualizados
+ * @param errorsByIndex mensaje de error por posición del perfil en el lote, para los que no se escribieron
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record BulkUpsertResult(
+        int inserted,
+        int updated,
+        Map<Integer, String> errorsByIndex
+) {
+}
@@ -0,0 +1,30 @@
+package com.udeajobs.profile.profile_service.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cambios de campos concretos de un objeto embebido, obtenidos de un JSON Merge Patch.
+ * Las rutas son relativas al objeto modificado y pueden contener puntos para los
+ * objetos anidados.
+ *
+ * @param set valor nuevo por ruta, ya convertido al tipo del campo
+ * @param unset rutas de los campos a eliminar
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record FieldPatch(
+        Map<String, Object> set,
+        Set<String> unset
+) {
+
+    /**
+     * Indica si el patch no modifica ningún campo.
+     *
+     * @return true si no hay campos a asignar ni a eliminar
+     */
+    public boolean isEmpty() {
+        return set.isEmpty() && unset.isEmpty();
+    }
+}
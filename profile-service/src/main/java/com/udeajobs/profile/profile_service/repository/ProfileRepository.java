@@ -6,12 +6,11 @@ import org.springframework.stereotype.Repository;
 
 /**
  * Repositorio para operaciones CRUD sobre perfiles de usuario en MongoDB.
+ * Incluye las escrituras atómicas sobre sub-documentos de {@link ProfileRepositoryCustom}.
  *
  * @author UdeAJobs Team
  * @version 1.0
  */
 @Repository
-public interface ProfileRepository extends MongoRepository<Profile, String> {
-
+public interface ProfileRepository extends MongoRepository<Profile, String>, ProfileRepositoryCustom {
 }
-
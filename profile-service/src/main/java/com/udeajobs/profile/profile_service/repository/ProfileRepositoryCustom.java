@@ -0,0 +1,330 @@
+package com.udeajobs.profile.profile_service.repository;
+
+import com.udeajobs.profile.profile_service.entity.InformacionPersonal;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.NivelHabilidad;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.enums.SkillMatchMode;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileOutboxView;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileTextMatch;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileVersionView;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Operaciones sobre secciones del perfil que no requieren cargar el documento completo.
+ * Las escrituras se resuelven con una única actualización atómica en el servidor,
+ * incluyendo la actualización de los metadatos del perfil y el registro del evento
+ * de cambio en el outbox, y las lecturas proyectan
+ * únicamente las secciones solicitadas.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public interface ProfileRepositoryCustom {
+
+    /**
+     * Obtiene un perfil completo para una consulta de solo lectura, con la preferencia de
+     * lectura configurada, por lo que puede leerse de un secundario con cierto retraso.
+     * No debe usarse antes de una escritura.
+     *
+     * @param userId identificador del usuario
+     * @return perfil sin los eventos pendientes del outbox, vacío si no existe
+     */
+    Optional<Profile> readProfile(String userId);
+
+    /**
+     * Obtiene un perfil completo del primario, sin los eventos pendientes del outbox, como
+     * base de una escritura.
+     *
+     * @param userId identificador del usuario
+     * @return perfil sin los eventos pendientes del outbox, vacío si no existe
+     */
+    Optional<Profile> findProfile(String userId);
+
+    /**
+     * Obtiene la versión y los metadatos de un perfil con la preferencia de lectura configurada.
+     *
+     * @param userId identificador del usuario
+     * @return proyección con versión y metadatos, vacía si no existe
+     */
+    Optional<ProfileVersionView> readVersion(String userId);
+
+    /**
+     * Obtiene un perfil cargando únicamente la sección indicada y la versión, para una
+     * consulta de solo lectura con la preferencia de lectura configurada.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a cargar
+     * @return perfil con la sección proyectada, vacío si no existe
+     */
+    Optional<Profile> readSection(String userId, ProfileSection section);
+
+    /**
+     * Obtiene un perfil cargando únicamente la sección indicada y la versión.
+     * El resto de secciones del perfil devuelto quedan con su valor por defecto.
+     * Se lee siempre del primario, por lo que sirve de base para una escritura.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a cargar
+     * @return perfil con la sección proyectada, vacío si no existe
+     */
+    Optional<Profile> findSection(String userId, ProfileSection section);
+
+    /**
+     * Obtiene varios perfiles con una única consulta $in.
+     * Si se indican secciones, solo se cargan esas secciones junto con los metadatos y la versión;
+     * en cualquier caso se omiten los eventos pendientes del outbox.
+     * Usa la preferencia de lectura configurada.
+     *
+     * @param userIds identificadores de los usuarios
+     * @param sections secciones a cargar, todas si es nulo o vacío
+     * @return perfiles encontrados, sin orden garantizado
+     */
+    List<Profile> findAllByIds(Collection<String> userIds, Collection<ProfileSection> sections);
+
+    /**
+     * Busca perfiles que tengan las habilidades indicadas con al menos el nivel mínimo.
+     * Cada habilidad se evalúa con $elemMatch sobre el nombre normalizado, sin distinguir
+     * mayúsculas y minúsculas. Los resultados se ordenan por identificador y se paginan por
+     * cursor: la página siguiente parte del último identificador devuelto, de modo que el
+     * índice de habilidades resuelve tanto la coincidencia como el orden de la página.
+     * Solo se cargan los campos necesarios para el resumen del perfil. Usa la preferencia
+     * de lectura configurada.
+     *
+     * @param minimumLevels nivel mínimo requerido por nombre de habilidad
+     * @param mode si deben cumplirse todas las habilidades o al menos una
+     * @param afterId identificador del último perfil de la página anterior, nulo para la primera
+     * @param limit número máximo de perfiles a devolver
+     * @return perfiles encontrados ordenados por identificador
+     */
+    List<Profile> searchBySkills(Map<String, NivelHabilidad> minimumLevels, SkillMatchMode mode, String afterId, int limit);
+
+    /**
+     * Recorre con un cursor los perfiles que cumplen los filtros indicados, leyendo los
+     * documentos por lotes para que la memoria no dependa del tamaño de la colección.
+     * Usa la preferencia de lectura configurada.
+     * El stream debe cerrarse al terminar para liberar el cursor.
+     *
+     * @param perfilCompleto filtra por completitud del perfil, nulo para no filtrar
+     * @param updatedSince fecha mínima de última actualización, nula para no filtrar
+     * @param sections secciones a cargar junto con los metadatos y la versión, todas si es nulo o vacío
+     * @return stream de perfiles ordenados por identificador
+     */
+    Stream<Profile> streamProfiles(Boolean perfilCompleto, LocalDateTime updatedSince, Collection<ProfileSection> sections);
+
+    /**
+     * Busca perfiles por texto libre con el índice de texto ponderado de la colección.
+     * Los resultados se ordenan por relevancia descendente y, a igual relevancia, por
+     * identificador, y se paginan por cursor a partir de la relevancia y el identificador
+     * del último resultado de la página anterior. Usa la preferencia de lectura configurada.
+     *
+     * @param text texto a buscar
+     * @param afterScore relevancia del último resultado de la página anterior, nula para la primera
+     * @param afterId identificador del último resultado de la página anterior, nulo para la primera
+     * @param limit número máximo de perfiles a devolver
+     * @return resúmenes de perfil con su relevancia
+     */
+    List<ProfileTextMatch> searchByText(String text, Double afterScore, String afterId, int limit);
+
+    /**
+     * Obtiene varios perfiles cargando solo los campos necesarios para su resumen, con la
+     * preferencia de lectura configurada.
+     *
+     * @param userIds identificadores de los usuarios
+     * @return perfiles encontrados, sin orden garantizado
+     */
+    List<Profile> findCardsByIds(Collection<String> userIds);
+
+    /**
+     * Recorre con un cursor las habilidades de los perfiles, opcionalmente solo las de
+     * los perfiles modificados desde una fecha. Solo se cargan las habilidades y la versión.
+     * El recorrido completo se devuelve ordenado por identificador.
+     * El stream debe cerrarse al terminar para liberar el cursor.
+     *
+     * @param updatedSince fecha mínima de última actualización, nula para recorrer todos los perfiles
+     * @return stream de perfiles con sus habilidades
+     */
+    Stream<Profile> streamSkills(LocalDateTime updatedSince);
+
+    /**
+     * Obtiene las habilidades y la versión de varios perfiles, leídas del primario.
+     *
+     * @param userIds identificadores de los usuarios
+     * @return perfiles encontrados con sus habilidades y su versión
+     */
+    List<Profile> findSkillsByIds(Collection<String> userIds);
+
+    /**
+     * Completa el nombre normalizado de las habilidades guardadas sin él. Cada perfil se
+     * reescribe condicionado a la versión leída y sin incrementarla; los que cambiaron
+     * entretanto se completan en el siguiente arranque.
+     *
+     * @return número de perfiles actualizados
+     */
+    long normalizeSkillNames();
+
+    /**
+     * Inserta los perfiles que aún no existen mediante una única escritura masiva
+     * no ordenada con upserts $setOnInsert. Los perfiles existentes no se modifican,
+     * incluido el que otro proceso inserte de forma concurrente. Los perfiles que chocan
+     * con otro índice único, como el del email, se devuelven como rechazados.
+     *
+     * @param profiles perfiles a insertar
+     * @return perfiles insertados y perfiles rechazados con su motivo
+     */
+    BulkInsertResult insertIfAbsent(List<Profile> profiles);
+
+    /**
+     * Crea o reemplaza el contenido de varios perfiles mediante una única escritura masiva
+     * no ordenada. Cada upsert usa el mismo pipeline que las escrituras individuales, por lo
+     * que recalcula los metadatos, incrementa la versión y registra el evento de cambio:
+     * CREATED si el perfil no existía y UPDATED si se reemplazó. Si un perfil no trae email se conserva el registrado. Un error en un perfil no impide
+     * escribir el resto del lote.
+     *
+     * @param profiles perfiles completos a escribir
+     * @return perfiles creados, actualizados y errores por posición en el lote
+     */
+    BulkUpsertResult upsertProfiles(List<Profile> profiles);
+
+    /**
+     * Reclama los perfiles con eventos de cambio pendientes de publicar que ninguna otra
+     * instancia tiene reclamados, marcándolos con una concesión hasta {@code lease}.
+     * Cada perfil se reclama con una escritura condicional atómica, de modo que solo una
+     * instancia obtiene cada uno. Una concesión vencida, por ejemplo la de una instancia
+     * caída, puede volver a reclamarse.
+     *
+     * @param claimId identificador de la reclamación, único por ciclo del relay
+     * @param limit número máximo de perfiles a reclamar
+     * @param lease duración de la concesión
+     * @return perfiles reclamados con sus eventos pendientes
+     */
+    List<ProfileOutboxView> claimPendingEvents(String claimId, int limit, Duration lease);
+
+    /**
+     * Retira del outbox de cada perfil los eventos ya publicados y libera la concesión de la
+     * reclamación, sin modificar la versión ni los metadatos del perfil.
+     *
+     * @param claimId identificador de la reclamación
+     * @param eventIdsByUser identificadores de los eventos publicados por identificador de usuario
+     */
+    void removeEvents(String claimId, Map<String, List<String>> eventIdsByUser);
+
+    /**
+     * Libera sin retirar eventos la concesión de los perfiles de una reclamación, para que
+     * vuelvan a publicarse en el siguiente ciclo.
+     *
+     * @param claimId identificador de la reclamación
+     * @param userIds identificadores de los perfiles reclamados
+     */
+    void releaseEvents(String claimId, Collection<String> userIds);
+
+    /**
+     * Cuenta los perfiles con eventos de cambio pendientes de publicar.
+     *
+     * @return número de perfiles con eventos pendientes
+     */
+    long countProfilesWithPendingEvents();
+
+    /**
+     * Añade un elemento al final de una sección del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a modificar
+     * @param item elemento a añadir
+     * @return true si el perfil existe y fue actualizado
+     */
+    boolean pushItem(String userId, ProfileSection section, Object item);
+
+    /**
+     * Añade un elemento al final de una sección del perfil y devuelve, en la misma operación,
+     * la sección y la versión resultantes.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a modificar
+     * @param item elemento a añadir
+     * @return perfil con la sección y la versión proyectadas, vacío si el perfil no existe
+     */
+    Optional<Profile> pushItemAndReturn(String userId, ProfileSection section, Object item);
+
+    /**
+     * Reemplaza un elemento existente de una sección del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a modificar
+     * @param itemId identificador del elemento a reemplazar
+     * @param item nuevo contenido del elemento
+     * @return true si el perfil y el elemento existen y fueron actualizados
+     */
+    boolean replaceItem(String userId, ProfileSection section, String itemId, Object item);
+
+    /**
+     * Elimina un elemento de una sección del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a modificar
+     * @param itemId identificador del elemento a eliminar
+     * @return true si el perfil y el elemento existen y fueron eliminados
+     */
+    boolean pullItem(String userId, ProfileSection section, String itemId);
+
+    /**
+     * Elimina un elemento de una sección del perfil y devuelve, en la misma operación, la
+     * sección y la versión resultantes.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a modificar
+     * @param itemId identificador del elemento a eliminar
+     * @return perfil con la sección y la versión proyectadas, vacío si el perfil o el elemento no existen
+     */
+    Optional<Profile> pullItemAndReturn(String userId, ProfileSection section, String itemId);
+
+    /**
+     * Actualiza la información personal del perfil conservando el email registrado.
+     *
+     * @param userId identificador del usuario
+     * @param informacionPersonal nueva información personal
+     * @return true si el perfil existe y fue actualizado
+     */
+    boolean updateInformacionPersonal(String userId, InformacionPersonal informacionPersonal);
+
+    /**
+     * Reemplaza varias secciones del perfil en una única escritura condicionada a que la
+     * versión del perfil no haya cambiado desde que se leyó. Registra un único evento de
+     * cambio, asociado a la sección si solo se reemplazó una.
+     *
+     * @param userId identificador del usuario
+     * @param expectedVersion versión leída del perfil, nula si el perfil no tenía versión
+     * @param sections nuevo contenido de cada sección reemplazada
+     * @return true si el perfil existía con la versión esperada y fue actualizado
+     */
+    boolean replaceSections(String userId, Long expectedVersion, Map<ProfileSection, Object> sections);
+
+    /**
+     * Asigna y elimina campos concretos de la información personal.
+     *
+     * @param userId identificador del usuario
+     * @param patch campos a asignar y a eliminar, relativos a la información personal
+     * @return perfil actualizado con solo la información personal y la versión proyectadas,
+     *         vacío si el perfil no existe
+     */
+    Optional<Profile> patchInformacionPersonal(String userId, FieldPatch patch);
+
+    /**
+     * Asigna y elimina campos concretos de un elemento de una sección.
+     *
+     * @param userId identificador del usuario
+     * @param section sección que contiene el elemento
+     * @param itemId identificador del elemento
+     * @param patch campos a asignar y a eliminar, relativos al elemento
+     * @return perfil actualizado con solo la sección y la versión proyectadas,
+     *         vacío si el perfil o el elemento no existen
+     */
+    Optional<Profile> patchItem(String userId, ProfileSection section, String itemId, FieldPatch patch);
+}
@@ -0,0 +1,832 @@
+package com.udeajobs.profile.profile_service.repository;
+
+import com.udeajobs.profile.profile_service.config.ProfileIndexInitializer;
+import com.udeajobs.profile.profile_service.entity.Habilidad;
+import com.udeajobs.profile.profile_service.entity.InformacionPersonal;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.NivelHabilidad;
+import com.udeajobs.profile.profile_service.enums.ProfileChangeType;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.enums.SkillMatchMode;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileOutboxView;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileTextMatch;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileVersionView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de las operaciones por sección del perfil.
+ * Cada escritura se expresa como un pipeline de actualización: la primera etapa
+ * aplica el cambio ($push, $pull o reemplazo posicional expresados con
+ * $concatArrays, $filter y $map) y la segunda recalcula los metadatos sobre el
+ * documento ya modificado, de modo que todo se resuelve en una sola operación.
+ * La versión del perfil se incrementa en la misma operación y el evento de cambio
+ * se registra en el outbox embebido del perfil, de forma atómica con el cambio. El
+ * outbox admite a lo sumo {@code profile.outbox.max-pending-events} eventos: al
+ * llenarse, los pendientes se sustituyen por un único evento del perfil completo.
+ * Las consultas de solo lectura usan la preferencia de lectura configurada; las
+ * lecturas que preceden a una escritura y las del índice de habilidades, el primario.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ProfileRepositoryCustomImpl implements ProfileRepositoryCustom {
+
+    /**
+     * Campos necesarios para construir el resumen de un perfil en los resultados de búsqueda
+     */
+    private static final String[] CARD_FIELDS = {
+            "informacionPersonal.nombreCompleto",
+            "informacionPersonal.tituloProfesional",
+            "informacionPersonal.fotoUrl",
+            "informacionPersonal.ubicacion",
+            "habilidades",
+            "metadata.perfilCompleto"
+    };
+
+    /**
+     * Campo del documento de perfil que contiene los eventos de cambio pendientes de publicar
+     */
+    private static final String OUTBOX_FIELD = "outbox";
+
+    /**
+     * Campo del documento de perfil con la concesión del relay que tiene reclamados sus eventos pendientes
+     */
+    private static final String OUTBOX_LEASE_FIELD = "outboxLease";
+
+    /**
+     * Código de error de MongoDB para claves duplicadas
+     */
+    private static final int DUPLICATE_KEY_CODE = 11000;
+
+    /**
+     * Documentos por lote al recorrer la colección con un cursor
+     */
+    private static final int STREAM_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadPreference profileReadPreference;
+
+    @Value("${profile.outbox.max-pending-events:100}")
+    private int maxPendingEvents;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> readProfile(String userId) {
+        Query query = byUserId(userId).withReadPreference(profileReadPreference);
+        excludeOutbox(query);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Profile.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> findProfile(String userId) {
+        Query query = byUserId(userId);
+        excludeOutbox(query);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Profile.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ProfileVersionView> readVersion(String userId) {
+        Query query = byUserId(userId).withReadPreference(profileReadPreference);
+        query.fields().include("version", "metadata");
+        return Optional.ofNullable(mongoTemplate.findOne(query, ProfileVersionView.class, collectionName()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> readSection(String userId, ProfileSection section) {
+        Query query = byUserId(userId).withReadPreference(profileReadPreference);
+        query.fields().include(section.getField(), "version");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Profile.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> findSection(String userId, ProfileSection section) {
+        Query query = byUserId(userId);
+        query.fields().include(section.getField(), "version");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Profile.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Profile> findAllByIds(Collection<String> userIds, Collection<ProfileSection> sections) {
+        Query query = Query.query(Criteria.where("id").in(userIds)).withReadPreference(profileReadPreference);
+        if (sections != null && !sections.isEmpty()) {
+            sections.forEach(section -> query.fields().include(section.getField()));
+            query.fields().include("metadata", "version");
+        } else {
+            excludeOutbox(query);
+        }
+        return mongoTemplate.find(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Profile> searchBySkills(Map<String, NivelHabilidad> minimumLevels, SkillMatchMode mode,
+                                        String afterId, int limit) {
+        Criteria[] skills = minimumLevels.entrySet().stream()
+                .map(entry -> Criteria.where("habilidades").elemMatch(
+                        Criteria.where("nombreNormalizado").is(Habilidad.normalizarNombre(entry.getKey()))
+                                .and("nivel").in(entry.getValue().andAbove())))
+                .toArray(Criteria[]::new);
+
+        // Con la colación simple el mismo índice resuelve la habilidad, el cursor y el orden por _id
+        Criteria criteria = afterId != null ? Criteria.where("id").gt(afterId) : new Criteria();
+        criteria = mode == SkillMatchMode.ANY ? criteria.orOperator(skills) : criteria.andOperator(skills);
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit)
+                .withReadPreference(profileReadPreference);
+        query.fields().include(CARD_FIELDS);
+        return mongoTemplate.find(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Profile> streamProfiles(Boolean perfilCompleto, LocalDateTime updatedSince,
+                                          Collection<ProfileSection> sections) {
+        Criteria criteria = new Criteria();
+        if (perfilCompleto != null) {
+            criteria.and("metadata.perfilCompleto").is(perfilCompleto);
+        }
+        if (updatedSince != null) {
+            criteria.and("metadata.ultimaActualizacion").gte(updatedSince);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .cursorBatchSize(STREAM_BATCH_SIZE)
+                .withReadPreference(profileReadPreference);
+        if (sections != null && !sections.isEmpty()) {
+            sections.forEach(section -> query.fields().include(section.getField()));
+            query.fields().include("metadata", "version");
+        } else {
+            excludeOutbox(query);
+        }
+        return mongoTemplate.stream(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProfileTextMatch> searchByText(String text, Double afterScore, String afterId, int limit) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(context -> new Document("$match", new Document("$text", new Document("$search", text)
+                .append("$language", ProfileIndexInitializer.TEXT_LANGUAGE))));
+        stages.add(context -> new Document("$addFields", new Document("score", new Document("$meta", "textScore"))));
+        if (afterScore != null && afterId != null) {
+            stages.add(context -> new Document("$match", new Document("$or", List.of(
+                    new Document("score", new Document("$lt", afterScore)),
+                    new Document("score", afterScore).append("_id", new Document("$gt", afterId))))));
+        }
+        stages.add(context -> new Document("$sort", new Document("score", -1).append("_id", 1)));
+        stages.add(Aggregation.limit(limit));
+
+        Document projection = new Document("score", 1);
+        for (String field : CARD_FIELDS) {
+            projection.append(field, 1);
+        }
+        stages.add(context -> new Document("$project", projection));
+
+        Aggregation aggregation = Aggregation.newAggregation(stages)
+                .withOptions(AggregationOptions.builder().readPreference(profileReadPreference).build());
+        return mongoTemplate.aggregate(aggregation, Profile.class, ProfileTextMatch.class)
+                .getMappedResults();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Profile> findCardsByIds(Collection<String> userIds) {
+        Query query = Query.query(Criteria.where("id").in(userIds)).withReadPreference(profileReadPreference);
+        query.fields().include(CARD_FIELDS);
+        return mongoTemplate.find(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Profile> streamSkills(LocalDateTime updatedSince) {
+        Query query = updatedSince != null
+                ? Query.query(Criteria.where("metadata.ultimaActualizacion").gte(updatedSince))
+                : new Query().with(Sort.by("id"));
+        query.fields().include("habilidades", "version");
+        query.cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Profile> findSkillsByIds(Collection<String> userIds) {
+        Query query = Query.query(Criteria.where("id").in(userIds));
+        query.fields().include("habilidades", "version");
+        return mongoTemplate.find(query, Profile.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long normalizeSkillNames() {
+        Query query = Query.query(Criteria.where("habilidades").elemMatch(
+                Criteria.where("nombre").exists(true).and("nombreNormalizado").exists(false)));
+        query.fields().include("habilidades", "version");
+        query.cursorBatchSize(STREAM_BATCH_SIZE);
+
+        long updated = 0;
+        try (Stream<Profile> profiles = mongoTemplate.stream(query, Profile.class)) {
+            Iterator<Profile> iterator = profiles.iterator();
+            while (iterator.hasNext()) {
+                Profile profile = iterator.next();
+                profile.getHabilidades().forEach(habilidad ->
+                        habilidad.setNombreNormalizado(Habilidad.normalizarNombre(habilidad.getNombre())));
+                // Se opera sobre la colección y no sobre la entidad para no incrementar la versión del perfil
+                updated += mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(profile.getId()).and("version").is(profile.getVersion())),
+                        new Update().set("habilidades", toMongo(profile.getHabilidades())),
+                        collectionName()).getModifiedCount();
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkInsertResult insertIfAbsent(List<Profile> profiles) {
+        if (profiles.isEmpty()) {
+            return new BulkInsertResult(0, Map.of());
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Profile.class);
+        for (Profile profile : profiles) {
+            Update update = new Update()
+                    .setOnInsert("informacionPersonal", profile.getInformacionPersonal())
+                    .setOnInsert("habilidades", profile.getHabilidades())
+                    .setOnInsert("experienciaLaboral", profile.getExperienciaLaboral())
+                    .setOnInsert("educacion", profile.getEducacion())
+                    .setOnInsert("portafolio", profile.getPortafolio())
+                    .setOnInsert("metadata", profile.getMetadata())
+                    .setOnInsert("version", 0L)
+                    .setOnInsert(OUTBOX_FIELD, List.of(outboxEvent(null, ProfileChangeType.CREATED.name(), 0L)));
+            bulk.upsert(byUserId(profile.getId()), update);
+        }
+        try {
+            return new BulkInsertResult(bulk.execute().getUpserts().size(), Map.of());
+        } catch (BulkOperationException e) {
+            if (!e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY_CODE)) {
+                throw e;
+            }
+            // Un upsert concurrente del mismo perfil choca en _id: el perfil ya existe. Cualquier otra
+            // clave duplicada, como un email ya registrado en otro perfil, impide crearlo
+            Map<String, String> rejected = new LinkedHashMap<>();
+            e.getErrors().stream()
+                    .filter(error -> !isIdCollision(error))
+                    .forEach(error -> rejected.put(profiles.get(error.getIndex()).getId(), error.getMessage()));
+            return new BulkInsertResult(e.getResult().getUpserts().size(), rejected);
+        }
+    }
+
+    private static boolean isIdCollision(BulkWriteError error) {
+        return error.getMessage() != null && error.getMessage().contains(" index: _id_ ");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean pushItem(String userId, ProfileSection section, Object item) {
+        return apply(byUserId(userId), appendItem(section, item), section, ProfileChangeType.CREATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> pushItemAndReturn(String userId, ProfileSection section, Object item) {
+        return applyAndReturn(byUserId(userId), List.of(appendItem(section, item)), section,
+                ProfileChangeType.CREATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replaceItem(String userId, ProfileSection section, String itemId, Object item) {
+        String field = section.getField();
+        Document replaced = new Document("$map", new Document("input", currentItems(field))
+                .append("in", new Document("$cond", List.of(
+                        new Document("$eq", List.of(itemIdExpression(section), literal(itemId))),
+                        literal(toMongo(item)),
+                        "$$this"))));
+
+        return apply(byItemId(userId, section, itemId), context -> new Document("$set", new Document(field, replaced)),
+                section, ProfileChangeType.UPDATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean pullItem(String userId, ProfileSection section, String itemId) {
+        return apply(byItemId(userId, section, itemId), removeItem(section, itemId), section,
+                ProfileChangeType.DELETED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> pullItemAndReturn(String userId, ProfileSection section, String itemId) {
+        return applyAndReturn(byItemId(userId, section, itemId), List.of(removeItem(section, itemId)), section,
+                ProfileChangeType.DELETED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateInformacionPersonal(String userId, InformacionPersonal informacionPersonal) {
+        Document fields = new Document()
+                .append("informacionPersonal.nombreCompleto", literal(informacionPersonal.getNombreCompleto()))
+                .append("informacionPersonal.tituloProfesional", literal(informacionPersonal.getTituloProfesional()))
+                .append("informacionPersonal.resumen", literal(informacionPersonal.getResumen()))
+                .append("informacionPersonal.ubicacion", literal(toMongo(informacionPersonal.getUbicacion())))
+                .append("informacionPersonal.fotoUrl", literal(informacionPersonal.getFotoUrl()));
+
+        return apply(byUserId(userId), context -> new Document("$set", fields),
+                ProfileSection.INFORMACION_PERSONAL, ProfileChangeType.UPDATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replaceSections(String userId, Long expectedVersion, Map<ProfileSection, Object> sections) {
+        Document fields = new Document();
+        sections.forEach((section, value) -> fields.append(section.getField(), literal(toMongo(value))));
+        ProfileSection changed = sections.size() == 1 ? sections.keySet().iterator().next() : null;
+
+        Query query = Query.query(Criteria.where("id").is(userId).and("version").is(expectedVersion));
+        return apply(query, context -> new Document("$set", fields), changed, ProfileChangeType.UPDATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> patchInformacionPersonal(String userId, FieldPatch patch) {
+        String field = ProfileSection.INFORMACION_PERSONAL.getField();
+        List<AggregationOperation> changes = new ArrayList<>();
+        if (!patch.set().isEmpty()) {
+            Document fields = new Document();
+            patch.set().forEach((path, value) -> fields.append(field + "." + path, literal(toMongo(value))));
+            changes.add(context -> new Document("$set", fields));
+        }
+        if (!patch.unset().isEmpty()) {
+            List<String> paths = patch.unset().stream().map(path -> field + "." + path).toList();
+            changes.add(context -> new Document("$unset", paths));
+        }
+
+        return applyAndReturn(byUserId(userId), changes, ProfileSection.INFORMACION_PERSONAL,
+                ProfileChangeType.UPDATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Profile> patchItem(String userId, ProfileSection section, String itemId, FieldPatch patch) {
+        String field = section.getField();
+        Document assigned = new Document();
+        patch.set().forEach((path, value) -> assigned.append(path, literal(toMongo(value))));
+
+        Object patched = new Document("$mergeObjects", List.of("$$this", assigned));
+        if (!patch.unset().isEmpty()) {
+            // Reconstruye el elemento sin los campos eliminados
+            patched = new Document("$arrayToObject", new Document("$filter", new Document()
+                    .append("input", new Document("$objectToArray", patched))
+                    .append("as", "entry")
+                    .append("cond", new Document("$not", List.of(
+                            new Document("$in", List.of("$$entry.k", literal(new ArrayList<>(patch.unset())))))))));
+        }
+        Document items = new Document("$map", new Document("input", currentItems(field))
+                .append("in", new Document("$cond", List.of(
+                        new Document("$eq", List.of(itemIdExpression(section), literal(itemId))),
+                        patched,
+                        "$$this"))));
+
+        return applyAndReturn(byItemId(userId, section, itemId),
+                List.<AggregationOperation>of(context -> new Document("$set", new Document(field, items))), section,
+                ProfileChangeType.UPDATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkUpsertResult upsertProfiles(List<Profile> profiles) {
+        if (profiles.isEmpty()) {
+            return new BulkUpsertResult(0, 0, Map.of());
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Profile.class);
+        for (Profile profile : profiles) {
+            Document fields = new Document();
+            InformacionPersonal info = profile.getInformacionPersonal() != null
+                    ? profile.getInformacionPersonal() : new InformacionPersonal();
+            fields.append("informacionPersonal.nombreCompleto", literal(info.getNombreCompleto()))
+                    .append("informacionPersonal.tituloProfesional", literal(info.getTituloProfesional()))
+                    .append("informacionPersonal.resumen", literal(info.getResumen()))
+                    .append("informacionPersonal.ubicacion", literal(toMongo(info.getUbicacion())))
+                    .append("informacionPersonal.fotoUrl", literal(info.getFotoUrl()));
+            if (info.getEmail() != null) {
+                fields.append("informacionPersonal.email", literal(info.getEmail()));
+            }
+            fields.append(ProfileSection.HABILIDADES.getField(), literal(toMongo(orEmpty(profile.getHabilidades()))))
+                    .append(ProfileSection.EXPERIENCIA_LABORAL.getField(), literal(toMongo(orEmpty(profile.getExperienciaLaboral()))))
+                    .append(ProfileSection.EDUCACION.getField(), literal(toMongo(orEmpty(profile.getEducacion()))))
+                    .append(ProfileSection.PORTAFOLIO.getField(), literal(toMongo(orEmpty(profile.getPortafolio()))));
+
+            bulk.upsert(byUserId(profile.getId()), pipeline(List.<AggregationOperation>of(context -> new Document("$set", fields)),
+                    null, upsertChangeType()));
+        }
+
+        try {
+            BulkWriteResult result = bulk.execute();
+            return new BulkUpsertResult(result.getUpserts().size(), result.getMatchedCount(), Map.of());
+        } catch (BulkOperationException e) {
+            Map<Integer, String> errors = new HashMap<>();
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+            return new BulkUpsertResult(e.getResult().getUpserts().size(), e.getResult().getMatchedCount(), errors);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProfileOutboxView> claimPendingEvents(String claimId, int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Query candidates = Query.query(claimable(now)).limit(limit);
+        candidates.fields().include("_id");
+        List<Object> userIds = mongoTemplate.find(candidates, Document.class, collectionName()).stream()
+                .map(candidate -> candidate.get("_id"))
+                .toList();
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        // La condición se vuelve a evaluar en la escritura de cada perfil: si otra instancia lo
+        // reclamó entretanto, no se modifica y no se devuelve
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(Criteria.where("_id").in(userIds), claimable(now))),
+                new Update().set(OUTBOX_LEASE_FIELD, new Document("claimId", claimId)
+                        .append("until", toMongo(now.plus(lease)))),
+                collectionName());
+
+        Query claimed = Query.query(Criteria.where("_id").in(userIds).and(OUTBOX_LEASE_FIELD + ".claimId").is(claimId));
+        claimed.fields().include(OUTBOX_FIELD);
+        return mongoTemplate.find(claimed, ProfileOutboxView.class, collectionName());
+    }
+
+    /**
+     * Perfiles con eventos pendientes sin concesión o con la concesión vencida.
+     */
+    private Criteria claimable(LocalDateTime now) {
+        return Criteria.where(OUTBOX_FIELD + ".occurredAt").exists(true).orOperator(
+                Criteria.where(OUTBOX_LEASE_FIELD).exists(false),
+                Criteria.where(OUTBOX_LEASE_FIELD + ".until").lt(toMongo(now)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countProfilesWithPendingEvents() {
+        return mongoTemplate.count(Query.query(Criteria.where(OUTBOX_FIELD + ".occurredAt").exists(true)), collectionName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeEvents(String claimId, Map<String, List<String>> eventIdsByUser) {
+        if (eventIdsByUser.isEmpty()) {
+            return;
+        }
+
+        // Se opera sobre la colección y no sobre la entidad para no incrementar la versión del perfil.
+        // Solo se libera la concesión propia: si venció y otra instancia reclamó el perfil, se conserva la suya
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName());
+        eventIdsByUser.forEach((userId, eventIds) -> {
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(userId)),
+                    new Update().pull(OUTBOX_FIELD, new Document("eventId", new Document("$in", eventIds))));
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(userId).and(OUTBOX_LEASE_FIELD + ".claimId").is(claimId)),
+                    new Update().unset(OUTBOX_LEASE_FIELD));
+        });
+        bulk.execute();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseEvents(String claimId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(userIds).and(OUTBOX_LEASE_FIELD + ".claimId").is(claimId)),
+                new Update().unset(OUTBOX_LEASE_FIELD),
+                collectionName());
+    }
+
+    /**
+     * Ejecuta el cambio seguido de la actualización de metadatos y versión en una única operación,
+     * registrando en la misma escritura el evento de cambio pendiente de publicar.
+     *
+     * @param query filtro del documento a modificar
+     * @param change etapa del pipeline que aplica el cambio
+     * @param section sección modificada
+     * @param type tipo de cambio
+     * @return true si algún documento coincidió con el filtro
+     */
+    private boolean apply(Query query, AggregationOperation change, ProfileSection section, ProfileChangeType type) {
+        return mongoTemplate.updateFirst(query, pipeline(change, section, type), Profile.class).getMatchedCount() > 0;
+    }
+
+    /**
+     * Aplica una modificación de una sección con el pipeline de actualización y devuelve en la
+     * misma operación la sección y la versión resultantes.
+     *
+     * @param query filtro del perfil a actualizar
+     * @param changes etapas del pipeline que aplican el cambio
+     * @param section sección modificada
+     * @param type tipo de cambio
+     * @return perfil actualizado con la sección y la versión proyectadas, vacío si no hubo coincidencias
+     */
+    private Optional<Profile> applyAndReturn(Query query, List<AggregationOperation> changes, ProfileSection section,
+                                             ProfileChangeType type) {
+        query.fields().include(section.getField()).include("version");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, pipeline(changes, section, type),
+                FindAndModifyOptions.options().returnNew(true), Profile.class));
+    }
+
+    /**
+     * Etapa que añade un elemento al final de una sección.
+     */
+    private AggregationOperation appendItem(ProfileSection section, Object item) {
+        String field = section.getField();
+        Document appended = new Document("$concatArrays", List.of(
+                currentItems(field),
+                List.of(literal(toMongo(item)))));
+        return context -> new Document("$set", new Document(field, appended));
+    }
+
+    /**
+     * Etapa que elimina un elemento de una sección por su identificador.
+     */
+    private AggregationOperation removeItem(ProfileSection section, String itemId) {
+        String field = section.getField();
+        Document remaining = new Document("$filter", new Document("input", currentItems(field))
+                .append("cond", new Document("$ne", List.of(itemIdExpression(section), literal(itemId)))));
+        return context -> new Document("$set", new Document(field, remaining));
+    }
+
+    /**
+     * Construye el pipeline de actualización: cambio, metadatos, versión y evento de cambio.
+     *
+     * @param change etapa del pipeline que aplica el cambio
+     * @param section sección modificada, nula si el cambio afecta al perfil completo
+     * @param type tipo de cambio
+     * @return pipeline de actualización
+     */
+    private AggregationUpdate pipeline(AggregationOperation change, ProfileSection section, ProfileChangeType type) {
+        return pipeline(List.of(change), section, type);
+    }
+
+    private AggregationUpdate pipeline(List<AggregationOperation> changes, ProfileSection section,
+                                       ProfileChangeType type) {
+        return pipeline(changes, section, type.name());
+    }
+
+    /**
+     * Construye el pipeline de actualización con el tipo del evento de cambio calculado por una expresión.
+     *
+     * @param changes etapas del pipeline que aplican el cambio
+     * @param section sección modificada, nula si el cambio afecta al perfil completo
+     * @param type nombre del tipo de cambio, o expresión que lo calcula sobre el documento resultante
+     * @return pipeline de actualización
+     */
+    private AggregationUpdate pipeline(List<AggregationOperation> changes, ProfileSection section, Object type) {
+        List<AggregationOperation> stages = new ArrayList<>(changes);
+        stages.add(touchMetadata());
+        return AggregationUpdate.from(stages)
+                .set(incrementVersion())
+                .set(appendOutboxEvent(section, type));
+    }
+
+    /**
+     * Construye la etapa que añade el evento de cambio al outbox del perfil con la versión ya
+     * incrementada. Si el outbox ya tiene {@code profile.outbox.max-pending-events} eventos,
+     * por ejemplo porque el broker no está disponible, los pendientes y el nuevo se sustituyen
+     * por un único evento UPDATED del perfil completo con la versión resultante, que indica en
+     * {@code coalesced} cuántos eventos reemplaza. Así el documento no crece sin límite y los
+     * consumidores siguen recibiendo la última versión, aunque no cada cambio intermedio.
+     *
+     * @param section sección modificada
+     * @param type tipo de cambio
+     * @return etapa del pipeline de actualización
+     */
+    private SetOperation appendOutboxEvent(ProfileSection section, Object type) {
+        Document pending = currentItems(OUTBOX_FIELD);
+        Document event = outboxEvent(section, type, "$version");
+        Document overflow = outboxEvent(null, ProfileChangeType.UPDATED.name(), "$version")
+                .append("coalesced", new Document("$add", List.of(new Document("$size", pending), 1)));
+        return SetOperation.set(OUTBOX_FIELD).toValue((AggregationExpression) context ->
+                new Document("$cond", List.of(
+                        new Document("$lt", List.of(new Document("$size", pending), maxPendingEvents)),
+                        new Document("$concatArrays", List.of(pending, List.of(event))),
+                        List.of(overflow))));
+    }
+
+    private Document outboxEvent(ProfileSection section, Object type, Object version) {
+        return new Document("eventId", UUID.randomUUID().toString())
+                .append("section", section != null ? section.name() : null)
+                .append("type", type)
+                .append("version", version)
+                .append("occurredAt", toMongo(LocalDateTime.now()));
+    }
+
+    /**
+     * Expresión del tipo de cambio de un upsert: CREATED si el pipeline insertó el documento y
+     * UPDATED si ya existía. Un documento insertado por el upsert no tenía fecha de creación, por
+     * lo que tras actualizar los metadatos su fecha de creación coincide con la de actualización.
+     *
+     * @return expresión evaluada en la etapa que añade el evento al outbox
+     */
+    private static Document upsertChangeType() {
+        return new Document("$cond", List.of(
+                new Document("$eq", List.of("$metadata.fechaCreacion", "$metadata.ultimaActualizacion")),
+                ProfileChangeType.CREATED.name(),
+                ProfileChangeType.UPDATED.name()));
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(Profile.class);
+    }
+
+    /**
+     * Construye la etapa que incrementa la versión del perfil. Los documentos creados
+     * antes de existir el campo parten de cero. Al declararse explícitamente, MongoTemplate
+     * no añade su propio incremento de versión sobre el pipeline.
+     *
+     * @return etapa del pipeline de actualización
+     */
+    private static SetOperation incrementVersion() {
+        return SetOperation.set("version").toValue((AggregationExpression) context ->
+                new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)));
+    }
+
+    /**
+     * Construye la etapa que actualiza la fecha de última modificación y el estado
+     * de completitud del perfil a partir del documento resultante.
+     * Un perfil se considera completo si tiene nombre y título profesional,
+     * al menos una habilidad y al menos una experiencia laboral.
+     *
+     * @return etapa del pipeline de actualización
+     */
+    private AggregationOperation touchMetadata() {
+        Object now = toMongo(LocalDateTime.now());
+        Document profileComplete = new Document("$and", List.of(
+                isPresent("$informacionPersonal.nombreCompleto"),
+                isPresent("$informacionPersonal.tituloProfesional"),
+                isNotEmpty("habilidades"),
+                isNotEmpty("experienciaLaboral")));
+
+        return context -> new Document("$set", new Document()
+                .append("metadata.fechaCreacion", new Document("$ifNull", List.of("$metadata.fechaCreacion", now)))
+                .append("metadata.ultimaActualizacion", now)
+                .append("metadata.perfilCompleto", profileComplete));
+    }
+
+    /**
+     * Excluye de la consulta los eventos pendientes y la concesión del relay, que no forman
+     * parte de ninguna respuesta.
+     */
+    private static void excludeOutbox(Query query) {
+        query.fields().exclude(OUTBOX_FIELD).exclude(OUTBOX_LEASE_FIELD);
+    }
+
+    private Query byUserId(String userId) {
+        return Query.query(Criteria.where("id").is(userId));
+    }
+
+    private Query byItemId(String userId, ProfileSection section, String itemId) {
+        return Query.query(Criteria.where("id").is(userId)
+                .and(section.getField() + ".id").is(itemId));
+    }
+
+    /**
+     * Expresión que referencia el identificador del elemento actual dentro de $map o $filter,
+     * usando el nombre de campo con el que el mapeo de Spring Data persiste el id embebido.
+     */
+    private String itemIdExpression(ProfileSection section) {
+        String idField = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(section.getElementType())
+                .getRequiredIdProperty()
+                .getFieldName();
+        return "$$this." + idField;
+    }
+
+    private Object toMongo(Object value) {
+        return mongoTemplate.getConverter().convertToMongoType(value);
+    }
+
+    private static <T> List<T> orEmpty(List<T> items) {
+        return items != null ? items : List.of();
+    }
+
+    private static Document currentItems(String field) {
+        return new Document("$ifNull", List.of("$" + field, List.of()));
+    }
+
+    private static Document isPresent(String field) {
+        return new Document("$ne", Arrays.asList(new Document("$ifNull", Arrays.asList(field, null)), null));
+    }
+
+    private static Document isNotEmpty(String field) {
+        return new Document("$gt", List.of(new Document("$size", currentItems(field)), 0));
+    }
+
+    /**
+     * Envuelve un valor en $literal para que los textos del usuario que empiecen
+     * por '$' no se interpreten como rutas de campo dentro del pipeline.
+     */
+    private static Document literal(Object value) {
+        return new Document("$literal", value);
+    }
+}
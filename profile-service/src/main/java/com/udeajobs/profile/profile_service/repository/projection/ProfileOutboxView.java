@@ -0,0 +1,20 @@
+package com.udeajobs.profile.profile_service.repository.projection;
+
+import com.udeajobs.profile.profile_service.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Proyección del perfil que solo incluye los eventos de cambio pendientes de publicar.
+ *
+ * @param id identificador del perfil
+ * @param outbox eventos pendientes, en el orden en que se produjeron
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record ProfileOutboxView(
+        String id,
+        List<OutboxEvent> outbox
+) {
+}
@@ -0,0 +1,29 @@
+package com.udeajobs.profile.profile_service.repository.projection;
+
+import com.udeajobs.profile.profile_service.entity.Habilidad;
+import com.udeajobs.profile.profile_service.entity.InformacionPersonal;
+import com.udeajobs.profile.profile_service.entity.Metadata;
+
+import java.util.List;
+
+/**
+ * Proyección del perfil devuelta por la búsqueda de texto: los campos del resumen
+ * del perfil junto con la relevancia calculada por el índice de texto.
+ *
+ * @param id identificador del perfil
+ * @param informacionPersonal información personal del perfil
+ * @param habilidades habilidades del perfil
+ * @param metadata metadatos del perfil
+ * @param score relevancia del perfil para el texto buscado
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record ProfileTextMatch(
+        String id,
+        InformacionPersonal informacionPersonal,
+        List<Habilidad> habilidades,
+        Metadata metadata,
+        Double score
+) {
+}
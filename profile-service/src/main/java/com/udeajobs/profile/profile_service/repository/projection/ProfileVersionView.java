@@ -0,0 +1,21 @@
+package com.udeajobs.profile.profile_service.repository.projection;
+
+import com.udeajobs.profile.profile_service.entity.Metadata;
+
+/**
+ * Proyección del perfil que solo incluye la versión y los metadatos,
+ * usada para validar cachés sin cargar el documento completo.
+ *
+ * @param id identificador del perfil
+ * @param version versión actual del perfil
+ * @param metadata metadatos del perfil
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public record ProfileVersionView(
+        String id,
+        Long version,
+        Metadata metadata
+) {
+}
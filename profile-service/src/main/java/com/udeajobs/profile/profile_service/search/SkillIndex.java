@@ -0,0 +1,457 @@
+package com.udeajobs.profile.profile_service.search;
+
+import com.udeajobs.profile.profile_service.entity.Habilidad;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.NivelHabilidad;
+import com.udeajobs.profile.profile_service.enums.SkillMatchMode;
+import com.udeajobs.profile.profile_service.repository.ProfileRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido en memoria de las habilidades de los perfiles.
+ * Cada perfil recibe un ordinal y cada par (habilidad normalizada, nivel) apunta a un
+ * bitmap comprimido (Roaring) con los ordinales de los perfiles que la tienen, de modo
+ * que una búsqueda por varias habilidades se resuelve con uniones e intersecciones de
+ * bitmaps sin consultar MongoDB. Cada perfil conserva las claves en las que está indexado,
+ * por lo que una actualización solo toca sus propios bitmaps.
+ * <p>
+ * Los ordinales siguen el orden de los identificadores: la construcción recorre la colección
+ * por identificador y los perfiles nuevos con un identificador mayor que el último se añaden
+ * al final. Así el cursor de una página se traduce a un ordinal por búsqueda binaria y la
+ * página son los primeros bits del bitmap a partir de él. Los perfiles nuevos que no respetan
+ * el orden quedan en una zona final sin ordenar, que se recorre comparando identificadores y
+ * se reordena (compacta) cuando supera {@code profile.skill-index.max-unsorted} perfiles.
+ * <p>
+ * El índice se construye al arrancar recorriendo la colección de perfiles. Después se
+ * mantiene al día con los hooks de {@code ProfileServiceImpl} en cada cambio de
+ * habilidades y con un refresco periódico de los perfiles modificados recientemente,
+ * que recoge los cambios hechos por otras instancias. Cada actualización se aplica solo
+ * si la versión del perfil no es anterior a la ya indexada, por lo que el orden en que
+ * llegan es indiferente. Mientras el índice no está listo las búsquedas van a MongoDB.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillIndex {
+
+    /**
+     * Margen sobre la fecha del último refresco para no perder cambios con relojes desfasados
+     */
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private final ProfileRepository profileRepository;
+    private final MeterRegistry meterRegistry;
+
+    private static final String[] NO_KEYS = new String[0];
+
+    @Value("${profile.skill-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${profile.skill-index.max-unsorted:10000}")
+    private int maxUnsorted;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private List<String> userIds = new ArrayList<>();
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private long[] indexedVersions = new long[0];
+    private String[][] indexedKeys = new String[0][];
+
+    /**
+     * Número de ordinales iniciales cuyos identificadores están en orden ascendente
+     */
+    private int sortedCount;
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastRefresh;
+    private Timer rebuildTimer;
+    private Timer compactionTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        rebuildTimer = Timer.builder("profile.skill.index.rebuild")
+                .description("Tiempo de construcción completa del índice de habilidades")
+                .register(meterRegistry);
+        compactionTimer = Timer.builder("profile.skill.index.compaction")
+                .description("Tiempo de reordenación de los perfiles añadidos fuera de orden al índice de habilidades")
+                .register(meterRegistry);
+        Gauge.builder("profile.skill.index.unsorted", this, index -> index.read(index::unsortedCount))
+                .description("Perfiles del índice de habilidades pendientes de reordenar por identificador")
+                .register(meterRegistry);
+        Gauge.builder("profile.skill.index.memory", this, index -> index.read(index::memoryInBytes))
+                .description("Memoria ocupada por los bitmaps del índice de habilidades")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("profile.skill.index.profiles", this, index -> index.read(() -> index.userIds.size()))
+                .description("Perfiles registrados en el índice de habilidades")
+                .register(meterRegistry);
+        Gauge.builder("profile.skill.index.keys", this, index -> index.read(index.postings::size))
+                .description("Pares habilidad-nivel distintos en el índice de habilidades")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indica si el índice está habilitado, es decir, si deben notificarse los cambios de habilidades.
+     *
+     * @return true si el índice está habilitado
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Indica si el índice terminó su construcción inicial y puede resolver búsquedas.
+     *
+     * @return true si el índice está listo
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Lanza la construcción inicial del índice en segundo plano cuando la aplicación está lista.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (enabled) {
+            Thread.ofVirtual().name("skill-index-builder").start(this::rebuild);
+        }
+    }
+
+    /**
+     * Recorre toda la colección de perfiles e indexa sus habilidades.
+     */
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            long count = rebuildTimer.recordCallable(() -> indexAll(null));
+            write(() -> {
+                compact();
+                postings.values().forEach(RoaringBitmap::runOptimize);
+            });
+            lastRefresh = startedAt;
+            ready = true;
+            log.info("Índice de habilidades construido con {} perfiles y {} claves", count, read(postings::size));
+        } catch (Exception e) {
+            log.error("No fue posible construir el índice de habilidades: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Indexa los perfiles modificados desde el último refresco, incluidos los cambios
+     * realizados por otras instancias y los perfiles creados desde los eventos de cuentas.
+     */
+    @Scheduled(fixedDelayString = "${profile.skill-index.refresh-interval:30s}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            long count = indexAll(lastRefresh.minusSeconds(REFRESH_OVERLAP_SECONDS));
+            if (read(this::unsortedCount) > maxUnsorted) {
+                write(this::compact);
+            }
+            lastRefresh = startedAt;
+            log.debug("Índice de habilidades refrescado con {} perfiles modificados", count);
+        } catch (RuntimeException e) {
+            log.warn("No fue posible refrescar el índice de habilidades: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reemplaza las habilidades indexadas de un perfil.
+     * Se ignora si ya se indexó una versión más reciente del perfil.
+     *
+     * @param userId identificador del usuario
+     * @param habilidades habilidades actuales del perfil
+     * @param version versión del perfil a la que corresponden las habilidades
+     */
+    public void update(String userId, List<Habilidad> habilidades, Long version) {
+        long newVersion = version != null ? version : 0L;
+        write(() -> {
+            int ordinal = ordinalOf(userId);
+            long indexedVersion = indexedVersions[ordinal];
+            if (newVersion < indexedVersion) {
+                return;
+            }
+            indexedVersions[ordinal] = newVersion;
+
+            for (String key : indexedKeys[ordinal]) {
+                RoaringBitmap bitmap = postings.get(key);
+                if (bitmap != null && bitmap.checkedRemove(ordinal) && bitmap.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+            List<String> keys = new ArrayList<>();
+            if (habilidades != null) {
+                for (Habilidad habilidad : habilidades) {
+                    if (habilidad.getNombre() != null && habilidad.getNivel() != null) {
+                        String key = key(habilidad.getNombre(), habilidad.getNivel());
+                        postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+                        keys.add(key);
+                    }
+                }
+            }
+            indexedKeys[ordinal] = keys.isEmpty() ? NO_KEYS : keys.toArray(String[]::new);
+        });
+    }
+
+    /**
+     * Busca los perfiles con las habilidades indicadas y devuelve la página de identificadores
+     * posteriores a {@code afterId}, en orden ascendente, igual que la búsqueda en MongoDB.
+     *
+     * @param minimumLevels nivel mínimo requerido por nombre de habilidad
+     * @param mode si deben cumplirse todas las habilidades o al menos una
+     * @param afterId identificador del último perfil de la página anterior, nulo para la primera
+     * @param limit número máximo de identificadores a devolver
+     * @return identificadores de los perfiles encontrados en orden ascendente
+     */
+    public List<String> search(Map<String, NivelHabilidad> minimumLevels, SkillMatchMode mode, String afterId, int limit) {
+        return meterRegistry.timer("profile.skill.index.query", "mode", mode.name()).record(() -> read(() -> {
+            RoaringBitmap matches = null;
+            for (Map.Entry<String, NivelHabilidad> skill : minimumLevels.entrySet()) {
+                RoaringBitmap skillMatches = matching(skill.getKey(), skill.getValue());
+                if (matches == null) {
+                    matches = skillMatches;
+                } else if (mode == SkillMatchMode.ANY) {
+                    matches.or(skillMatches);
+                } else {
+                    matches.and(skillMatches);
+                }
+            }
+            return matches != null ? firstIdsAfter(matches, afterId, limit) : List.of();
+        }));
+    }
+
+    /**
+     * Une los bitmaps de la habilidad en el nivel mínimo y todos los superiores.
+     */
+    private RoaringBitmap matching(String nombre, NivelHabilidad minimumLevel) {
+        RoaringBitmap[] levels = minimumLevel.andAbove().stream()
+                .map(level -> postings.get(key(nombre, level)))
+                .filter(bitmap -> bitmap != null)
+                .toArray(RoaringBitmap[]::new);
+        return RoaringBitmap.or(levels);
+    }
+
+    /**
+     * Devuelve los {@code limit} identificadores menores posteriores a {@code afterId}. En la
+     * zona ordenada el cursor se convierte en el primer ordinal con un identificador mayor y se
+     * toman los siguientes bits del bitmap; la zona sin ordenar se filtra comparando
+     * identificadores y ambas listas se combinan en orden.
+     */
+    private List<String> firstIdsAfter(RoaringBitmap matches, String afterId, int limit) {
+        List<String> sorted = new ArrayList<>(limit);
+        PeekableIntIterator bits = matches.getIntIterator();
+        bits.advanceIfNeeded(afterId != null ? firstOrdinalAfter(afterId) : 0);
+        while (bits.hasNext() && sorted.size() < limit) {
+            int ordinal = bits.next();
+            if (ordinal >= sortedCount) {
+                break;
+            }
+            sorted.add(userIds.get(ordinal));
+        }
+        if (sortedCount == userIds.size()) {
+            return sorted;
+        }
+
+        PriorityQueue<String> unsorted = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+        bits = matches.getIntIterator();
+        bits.advanceIfNeeded(sortedCount);
+        while (bits.hasNext()) {
+            String userId = userIds.get(bits.next());
+            if (afterId != null && userId.compareTo(afterId) <= 0) {
+                continue;
+            }
+            if (unsorted.size() < limit) {
+                unsorted.add(userId);
+            } else if (userId.compareTo(unsorted.peek()) < 0) {
+                unsorted.poll();
+                unsorted.add(userId);
+            }
+        }
+        List<String> tail = new ArrayList<>(unsorted);
+        tail.sort(Comparator.naturalOrder());
+
+        List<String> page = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (page.size() < limit && (i < sorted.size() || j < tail.size())) {
+            if (j == tail.size() || (i < sorted.size() && sorted.get(i).compareTo(tail.get(j)) < 0)) {
+                page.add(sorted.get(i++));
+            } else {
+                page.add(tail.get(j++));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Primer ordinal de la zona ordenada cuyo identificador es mayor que {@code afterId}.
+     */
+    private int firstOrdinalAfter(String afterId) {
+        int low = 0;
+        int high = sortedCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (userIds.get(middle).compareTo(afterId) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Reordena los ordinales de la zona sin ordenar intercalándolos con la zona ordenada y
+     * reescribe los bitmaps con la nueva numeración. Se ejecuta con el bloqueo de escritura.
+     */
+    private void compact() {
+        int size = userIds.size();
+        if (sortedCount == size) {
+            return;
+        }
+        compactionTimer.record(() -> {
+            Integer[] tail = new Integer[size - sortedCount];
+            for (int i = 0; i < tail.length; i++) {
+                tail[i] = sortedCount + i;
+            }
+            Arrays.sort(tail, Comparator.comparing(userIds::get));
+
+            // Nuevo ordinal de cada ordinal actual, intercalando ambas zonas por identificador
+            int[] renumbered = new int[size];
+            List<String> sortedIds = new ArrayList<>(size);
+            int i = 0;
+            int j = 0;
+            while (i < sortedCount || j < tail.length) {
+                int ordinal = j == tail.length
+                        || (i < sortedCount && userIds.get(i).compareTo(userIds.get(tail[j])) < 0)
+                        ? i++ : tail[j++];
+                renumbered[ordinal] = sortedIds.size();
+                sortedIds.add(userIds.get(ordinal));
+            }
+
+            long[] versions = new long[indexedVersions.length];
+            Arrays.fill(versions, -1L);
+            String[][] keys = new String[indexedKeys.length][];
+            Arrays.fill(keys, NO_KEYS);
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                versions[renumbered[ordinal]] = indexedVersions[ordinal];
+                keys[renumbered[ordinal]] = indexedKeys[ordinal];
+                ordinals.put(userIds.get(ordinal), renumbered[ordinal]);
+            }
+            postings.replaceAll((key, bitmap) -> {
+                RoaringBitmap remapped = new RoaringBitmap();
+                bitmap.forEach((int ordinal) -> remapped.add(renumbered[ordinal]));
+                remapped.runOptimize();
+                return remapped;
+            });
+
+            userIds = sortedIds;
+            indexedVersions = versions;
+            indexedKeys = keys;
+            sortedCount = size;
+        });
+        log.debug("Índice de habilidades reordenado con {} perfiles", size);
+    }
+
+    private int unsortedCount() {
+        return userIds.size() - sortedCount;
+    }
+
+    private long indexAll(LocalDateTime updatedSince) {
+        long count = 0;
+        try (Stream<Profile> profiles = profileRepository.streamSkills(updatedSince)) {
+            Iterator<Profile> iterator = profiles.iterator();
+            while (iterator.hasNext()) {
+                Profile profile = iterator.next();
+                update(profile.getId(), profile.getHabilidades(), profile.getVersion());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int ordinalOf(String userId) {
+        Integer ordinal = ordinals.get(userId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int next = userIds.size();
+        if (next == indexedVersions.length) {
+            int oldLength = indexedVersions.length;
+            int newLength = Math.max(1024, oldLength * 2);
+            indexedVersions = Arrays.copyOf(indexedVersions, newLength);
+            Arrays.fill(indexedVersions, oldLength, newLength, -1L);
+            indexedKeys = Arrays.copyOf(indexedKeys, newLength);
+            Arrays.fill(indexedKeys, oldLength, newLength, NO_KEYS);
+        }
+        // Mientras no haya zona sin ordenar, un identificador mayor que el último amplía la zona ordenada
+        if (sortedCount == next && (next == 0 || userIds.get(next - 1).compareTo(userId) < 0)) {
+            sortedCount++;
+        }
+        userIds.add(userId);
+        ordinals.put(userId, next);
+        return next;
+    }
+
+    private long memoryInBytes() {
+        return postings.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+    }
+
+    /**
+     * Clave del índice: nombre de la habilidad sin distinguir mayúsculas y minúsculas, y nivel.
+     */
+    private static String key(String nombre, NivelHabilidad nivel) {
+        return Habilidad.normalizarNombre(nombre) + '|' + nivel.name();
+    }
+
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
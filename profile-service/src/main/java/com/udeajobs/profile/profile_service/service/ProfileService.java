@@ -1,8 +1,12 @@
 package com.udeajobs.profile.profile_service.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.udeajobs.profile.profile_service.dto.request.*;
 import com.udeajobs.profile.profile_service.dto.response.*;
 import com.udeajobs.profile.profile_service.events.CuentaVerificadaEvent;
+import com.udeajobs.profile.profile_service.repository.BulkInsertResult;
+
+import java.util.List;
 
 /**
  * Interfaz del servicio de perfiles que define las operaciones de negocio.
@@ -13,21 +17,111 @@ import com.udeajobs.profile.profile_service.events.CuentaVerificadaEvent;
 public interface ProfileService {
 
     /**
-     * Creates a base user profile for event usage.
+     * Crea en una sola escritura masiva los perfiles base de un lote de eventos.
+     * Los usuarios que ya tienen perfil se ignoran, por lo que reprocesar un lote es seguro.
+     * Los que no pueden crearse por un conflicto con otro perfil, como un email ya registrado,
+     * se devuelven como rechazados para que no se pierdan.
+     *
+     * @param events eventos de cuentas verificadas
+     * @return perfiles creados y cuentas rechazadas con su motivo
+     */
+    BulkInsertResult createBaseUsers(List<CuentaVerificadaEvent> events);
+
+    /**
+     * Obtiene el perfil completo de un usuario serializado a JSON, desde la caché de
+     * perfiles serializados si contiene la versión indicada.
+     *
+     * @param userId identificador del usuario
+     * @param version versión actual del perfil, usada como parte de la clave de la caché
+     * @return perfil serializado, con la versión a la que corresponde
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     */
+    SerializedProfile getSerializedProfile(String userId, Long version);
+
+    /**
+     * Obtiene varios perfiles en una sola consulta.
+     * Los identificadores sin perfil se informan en la respuesta en lugar de producir un error.
      *
-     * @param event event data
-     * @return created base profile
+     * @param request identificadores a consultar y secciones a incluir
+     * @return perfiles encontrados en el orden solicitado e identificadores no encontrados
+     */
+    ProfileBatchResponse getProfiles(ProfileBatchRequest request);
+
+    /**
+     * Busca perfiles que tengan las habilidades indicadas (todas o alguna) con al menos el nivel mínimo.
+     * Se resuelve con el índice de habilidades en memoria cuando está listo y con MongoDB en caso contrario.
+     * Los resultados se paginan con un cursor opaco en lugar de desplazamientos.
+     *
+     * @param request habilidades requeridas, tamaño de página y cursor
+     * @return página de resúmenes de perfil y cursor de la página siguiente
+     * @throws com.udeajobs.profile.profile_service.exception.InvalidDataException si el cursor no es válido
+     */
+    ProfileSearchResponse searchBySkills(SkillSearchRequest request);
+
+    /**
+     * Busca perfiles por texto libre en el título profesional, el resumen y las descripciones
+     * de experiencia laboral, ordenados por relevancia y paginados con un cursor opaco.
+     *
+     * @param request texto a buscar, tamaño de página y cursor
+     * @return página de resúmenes de perfil con su relevancia y cursor de la página siguiente
+     * @throws com.udeajobs.profile.profile_service.exception.InvalidDataException si el cursor no es válido
+     */
+    ProfileSearchResponse searchByText(TextSearchRequest request);
+
+    /**
+     * Obtiene únicamente la información personal del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return información personal
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     */
+    InformacionPersonalResponse getInformacionPersonal(String userId);
+
+    /**
+     * Obtiene únicamente las habilidades del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de habilidades
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     */
+    List<HabilidadResponse> getHabilidades(String userId);
+
+    /**
+     * Obtiene únicamente la experiencia laboral del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de experiencias laborales
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     */
+    List<ExperienciaLaboralResponse> getExperienciaLaboral(String userId);
+
+    /**
+     * Obtiene únicamente la formación académica del perfil.
+     *
+     * @param userId identificador del usuario
+     * @return lista de educación
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
      */
-    ProfileResponse createBaseUser(CuentaVerificadaEvent event);
+    List<EducacionResponse> getEducacion(String userId);
 
     /**
-     * Obtiene el perfil completo de un usuario.
+     * Obtiene únicamente los proyectos del portafolio.
      *
      * @param userId identificador del usuario
-     * @return perfil completo
+     * @return lista de proyectos
      * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
      */
-    ProfileResponse getProfile(String userId);
+    List<PortafolioResponse> getPortafolio(String userId);
+
+    /**
+     * Obtiene la versión y la fecha de última actualización del perfil
+     * sin cargar el documento completo.
+     *
+     * @param userId identificador del usuario
+     * @return validadores del perfil
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     */
+    ProfileVersionResponse getProfileVersion(String userId);
 
     /**
      * Actualiza la información personal del perfil.
@@ -39,6 +133,32 @@ public interface ProfileService {
      */
     InformacionPersonalResponse updateInformacionPersonal(String userId, InformacionPersonalRequest request);
 
+    /**
+     * Modifica campos concretos de la información personal con un JSON Merge Patch (RFC 7396).
+     *
+     * @param userId identificador del usuario
+     * @param patch campos a modificar; los campos con valor null se eliminan
+     * @return información personal resultante
+     * @throws com.udeajobs.profile.profile_service.exception.InvalidDataException si el patch no es válido
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     */
+    InformacionPersonalResponse patchInformacionPersonal(String userId, JsonNode patch);
+
+    /**
+     * Aplica en orden varias operaciones sobre las secciones del perfil con una única escritura.
+     * Todas las operaciones se validan antes de aplicar ninguna; si alguna no es válida o
+     * referencia un elemento inexistente, el perfil no se modifica.
+     *
+     * @param userId identificador del usuario
+     * @param request operaciones a aplicar y versión esperada del perfil
+     * @return identificadores de los elementos afectados y nueva versión del perfil
+     * @throws com.udeajobs.profile.profile_service.exception.InvalidDataException si alguna operación no es válida
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     * @throws com.udeajobs.profile.profile_service.exception.ResourceNotFoundException si no existe un elemento referenciado
+     * @throws org.springframework.dao.OptimisticLockingFailureException si la versión no coincide con la esperada
+     */
+    ProfilePatchResponse patchProfile(String userId, ProfilePatchRequest request);
+
     /**
      * Añade una nueva experiencia laboral al perfil.
      *
@@ -61,6 +181,19 @@ public interface ProfileService {
      */
     ExperienciaLaboralResponse updateExperienciaLaboral(String userId, String experienceId, ExperienciaLaboralRequest request);
 
+    /**
+     * Modifica campos concretos de una experiencia laboral con un JSON Merge Patch (RFC 7396).
+     *
+     * @param userId identificador del usuario
+     * @param experienceId identificador de la experiencia
+     * @param patch campos a modificar; los campos con valor null se eliminan
+     * @return experiencia resultante
+     * @throws com.udeajobs.profile.profile_service.exception.InvalidDataException si el patch no es válido
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     * @throws com.udeajobs.profile.profile_service.exception.ResourceNotFoundException si no existe la experiencia
+     */
+    ExperienciaLaboralResponse patchExperienciaLaboral(String userId, String experienceId, JsonNode patch);
+
     /**
      * Elimina una experiencia laboral del perfil.
      *
@@ -113,6 +246,19 @@ public interface ProfileService {
      */
     EducacionResponse updateEducacion(String userId, String educationId, EducacionRequest request);
 
+    /**
+     * Modifica campos concretos de una educación con un JSON Merge Patch (RFC 7396).
+     *
+     * @param userId identificador del usuario
+     * @param educationId identificador de la educación
+     * @param patch campos a modificar; los campos con valor null se eliminan
+     * @return educación resultante
+     * @throws com.udeajobs.profile.profile_service.exception.InvalidDataException si el patch no es válido
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     * @throws com.udeajobs.profile.profile_service.exception.ResourceNotFoundException si no existe la educación
+     */
+    EducacionResponse patchEducacion(String userId, String educationId, JsonNode patch);
+
     /**
      * Elimina una educación del perfil.
      *
@@ -145,6 +291,19 @@ public interface ProfileService {
      */
     PortafolioResponse updatePortafolio(String userId, String portfolioId, PortafolioRequest request);
 
+    /**
+     * Modifica campos concretos de un proyecto del portafolio con un JSON Merge Patch (RFC 7396).
+     *
+     * @param userId identificador del usuario
+     * @param portfolioId identificador del proyecto
+     * @param patch campos a modificar; los campos con valor null se eliminan
+     * @return proyecto resultante
+     * @throws com.udeajobs.profile.profile_service.exception.InvalidDataException si el patch no es válido
+     * @throws com.udeajobs.profile.profile_service.exception.ProfileNotFoundException si no existe el perfil
+     * @throws com.udeajobs.profile.profile_service.exception.ResourceNotFoundException si no existe el proyecto
+     */
+    PortafolioResponse patchPortafolio(String userId, String portfolioId, JsonNode patch);
+
     /**
      * Elimina un proyecto del portafolio.
      *
@@ -1,20 +1,52 @@
 package com.udeajobs.profile.profile_service.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udeajobs.profile.profile_service.config.ProfileServiceMetrics;
 import com.udeajobs.profile.profile_service.dto.request.*;
 import com.udeajobs.profile.profile_service.dto.response.*;
 import com.udeajobs.profile.profile_service.entity.*;
+import com.udeajobs.profile.profile_service.enums.NivelHabilidad;
+import com.udeajobs.profile.profile_service.enums.PatchOperationType;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.enums.SkillMatchMode;
 import com.udeajobs.profile.profile_service.events.CuentaVerificadaEvent;
+import com.udeajobs.profile.profile_service.exception.InvalidDataException;
 import com.udeajobs.profile.profile_service.exception.ProfileNotFoundException;
 import com.udeajobs.profile.profile_service.exception.ResourceNotFoundException;
+import com.udeajobs.profile.profile_service.mapper.MergePatchMapper;
 import com.udeajobs.profile.profile_service.mapper.ProfileMapper;
+import com.udeajobs.profile.profile_service.repository.BulkInsertResult;
+import com.udeajobs.profile.profile_service.repository.FieldPatch;
 import com.udeajobs.profile.profile_service.repository.ProfileRepository;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileTextMatch;
+import com.udeajobs.profile.profile_service.repository.projection.ProfileVersionView;
+import com.udeajobs.profile.profile_service.search.SkillIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del servicio de perfiles con toda la lógica de negocio.
@@ -27,43 +59,186 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ProfileServiceImpl implements ProfileService {
 
+    /**
+     * Tamaño de página por defecto de las búsquedas
+     */
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+
+    /**
+     * DTO con el que se interpreta el valor de una operación de edición múltiple en cada sección
+     */
+    private static final Map<ProfileSection, Class<?>> PATCH_VALUE_TYPES = Map.of(
+            ProfileSection.INFORMACION_PERSONAL, InformacionPersonalRequest.class,
+            ProfileSection.HABILIDADES, HabilidadRequest.class,
+            ProfileSection.EXPERIENCIA_LABORAL, ExperienciaLaboralRequest.class,
+            ProfileSection.EDUCACION, EducacionRequest.class,
+            ProfileSection.PORTAFOLIO, PortafolioRequest.class);
+
     private final ProfileRepository profileRepository;
     private final ProfileMapper profileMapper;
+    private final MeterRegistry meterRegistry;
+    private final SkillIndex skillIndex;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MergePatchMapper mergePatchMapper;
+    private final SerializedProfileCache serializedProfileCache;
+    private final ProfileServiceMetrics profileServiceMetrics;
+
+    @Value("${profile.write.max-attempts:3}")
+    private int maxWriteAttempts;
+
+    @Value("${profile.read.coalescing.enabled:true}")
+    private boolean readCoalescingEnabled;
+
+    /**
+     * Agrupa las serializaciones concurrentes del mismo perfil. No se usa la carga sincronizada
+     * de la caché (@Cacheable(sync = true)) porque la clave incluye la versión y la lectura puede
+     * traer una versión posterior, que se guarda con su propia clave, y porque la agrupación
+     * debe mantenerse con la caché deshabilitada (spring.cache.type=none).
+     */
+    private SingleFlight<String, SerializedProfile> serializedFlights;
+
+    @PostConstruct
+    void registerReadFlights() {
+        serializedFlights = new SingleFlight<>(meterRegistry, "getSerializedProfile", readCoalescingEnabled);
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional
-    public ProfileResponse createBaseUser(CuentaVerificadaEvent event) {
-        log.info("Creando perfil base para el usuario: {}", event.accountId());
+    public BulkInsertResult createBaseUsers(List<CuentaVerificadaEvent> events) {
+        log.info("Creando perfiles base para un lote de {} eventos", events.size());
 
-        // Verificar si el usuario ya existe
-        if (profileRepository.existsById(event.accountId())) {
-            log.warn("El usuario {} ya existe, retornando perfil existente", event.accountId());
-            return getProfile(event.accountId());
+        // Un mismo usuario puede llegar repetido dentro del lote
+        Map<String, Profile> profiles = new LinkedHashMap<>();
+        for (CuentaVerificadaEvent event : events) {
+            profiles.putIfAbsent(event.accountId(), toBaseProfile(event));
         }
 
-        // Crear perfil base con metadata
-        Profile profile = Profile.builder()
-                .id(event.accountId())
-                .informacionPersonal(
-                        InformacionPersonal.builder()
-                                .nombreCompleto(event.fullName())
-                                .email(event.email())
-                                .build()
-                )
-                .metadata(Metadata.builder()
-                        .fechaCreacion(LocalDateTime.now())
-                        .ultimaActualizacion(LocalDateTime.now())
-                        .perfilCompleto(false)
-                        .build())
+        BulkInsertResult result = profileRepository.insertIfAbsent(new ArrayList<>(profiles.values()));
+
+        log.info("Lote procesado: {} perfiles base creados, {} ya existían, {} rechazados", result.inserted(),
+                profiles.size() - result.inserted() - result.rejected().size(), result.rejected().size());
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SerializedProfile getSerializedProfile(String userId, Long version) {
+        SerializedProfile cached = serializedProfileCache.get(userId, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        SerializedProfile serialized = serializedFlights.execute(userId, () -> readAndSerialize(userId));
+        // Una lectura en curso iniciada antes de la última escritura puede traer una versión anterior
+        if (version != null && serialized.version() != null && serialized.version() < version) {
+            serialized = readAndSerialize(userId);
+        }
+        return serialized;
+    }
+
+    private SerializedProfile readAndSerialize(String userId) {
+        log.info("Serializando perfil para el usuario: {}", userId);
+        Profile profile = profileRepository.readProfile(userId)
+                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+        return serializedProfileCache.put(profile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileBatchResponse getProfiles(ProfileBatchRequest request) {
+        Set<String> requestedIds = new LinkedHashSet<>(request.getIds());
+        log.info("Obteniendo {} perfiles en lote", requestedIds.size());
+
+        Map<String, Profile> found = profileRepository.findAllByIds(requestedIds, request.getSections()).stream()
+                .collect(Collectors.toMap(Profile::getId, Function.identity()));
+
+        List<ProfileResponse> profiles = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String userId : requestedIds) {
+            Profile profile = found.get(userId);
+            if (profile != null) {
+                profiles.add(profileMapper.toProfileResponse(profile, request.getSections()));
+            } else {
+                missingIds.add(userId);
+            }
+        }
+
+        log.debug("Perfiles en lote: {} encontrados, {} no encontrados", profiles.size(), missingIds.size());
+        return ProfileBatchResponse.builder()
+                .profiles(profiles)
+                .missingIds(missingIds)
                 .build();
+    }
 
-        profileRepository.save(profile);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileSearchResponse searchBySkills(SkillSearchRequest request) {
+        // Si una habilidad se repite se exige el mayor de los niveles indicados
+        Map<String, NivelHabilidad> minimumLevels = request.getSkills().stream()
+                .collect(Collectors.toMap(
+                        skill -> skill.getNombre().trim(),
+                        skill -> skill.getNivelMinimo() != null ? skill.getNivelMinimo() : NivelHabilidad.BASICO,
+                        (first, second) -> first.compareTo(second) >= 0 ? first : second,
+                        LinkedHashMap::new));
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_SEARCH_LIMIT;
+        String afterId = request.getCursor() != null ? SearchCursor.decode(request.getCursor()) : null;
+        SkillMatchMode mode = request.getMode() != null ? request.getMode() : SkillMatchMode.ALL;
+
+        log.info("Buscando perfiles por habilidades {} (modo {})", minimumLevels, mode);
+
+        // Se pide un elemento extra para saber si existe una página siguiente
+        List<Profile> found = skillIndex.isReady()
+                ? searchInSkillIndex(minimumLevels, mode, afterId, limit + 1)
+                : profileRepository.searchBySkills(minimumLevels, mode, afterId, limit + 1);
+        boolean hasMore = found.size() > limit;
+        List<Profile> page = hasMore ? found.subList(0, limit) : found;
+
+        return ProfileSearchResponse.builder()
+                .results(page.stream().map(profileMapper::toProfileCardResponse).toList())
+                .nextCursor(hasMore ? SearchCursor.encode(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileSearchResponse searchByText(TextSearchRequest request) {
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_SEARCH_LIMIT;
+        Double afterScore = null;
+        String afterId = null;
+        if (request.getCursor() != null) {
+            // El cursor de texto combina la relevancia y el identificador del último resultado
+            SearchCursor.TextPosition position = SearchCursor.decodeText(request.getCursor());
+            afterScore = position.score();
+            afterId = position.id();
+        }
 
-        log.info("Usuario base creado exitosamente: {}", event.accountId());
-        return profileMapper.toProfileResponse(profile);
+        log.info("Buscando perfiles por texto: {}", request.getQuery());
+
+        // Se pide un elemento extra para saber si existe una página siguiente
+        List<ProfileTextMatch> found = profileRepository.searchByText(request.getQuery(), afterScore, afterId, limit + 1);
+        boolean hasMore = found.size() > limit;
+        List<ProfileTextMatch> page = hasMore ? found.subList(0, limit) : found;
+
+        ProfileTextMatch last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return ProfileSearchResponse.builder()
+                .results(page.stream().map(profileMapper::toProfileCardResponse).toList())
+                .nextCursor(hasMore ? SearchCursor.encodeText(last.score(), last.id()) : null)
+                .build();
     }
 
     /**
@@ -71,14 +246,71 @@ public class ProfileServiceImpl implements ProfileService {
      */
     @Override
     @Transactional(readOnly = true)
-    public ProfileResponse getProfile(String userId) {
-        log.info("Obteniendo perfil para el usuario: {}", userId);
+    public InformacionPersonalResponse getInformacionPersonal(String userId) {
+        log.info("Obteniendo información personal para el usuario: {}", userId);
+        return profileMapper.toInformacionPersonalResponse(
+                readSection(userId, ProfileSection.INFORMACION_PERSONAL).getInformacionPersonal());
+    }
 
-        Profile profile = profileRepository.findById(userId)
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<HabilidadResponse> getHabilidades(String userId) {
+        log.info("Obteniendo habilidades para el usuario: {}", userId);
+        return profileMapper.toHabilidadResponses(
+                readSection(userId, ProfileSection.HABILIDADES).getHabilidades());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExperienciaLaboralResponse> getExperienciaLaboral(String userId) {
+        log.info("Obteniendo experiencia laboral para el usuario: {}", userId);
+        return profileMapper.toExperienciaLaboralResponses(
+                readSection(userId, ProfileSection.EXPERIENCIA_LABORAL).getExperienciaLaboral());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EducacionResponse> getEducacion(String userId) {
+        log.info("Obteniendo educación para el usuario: {}", userId);
+        return profileMapper.toEducacionResponses(
+                readSection(userId, ProfileSection.EDUCACION).getEducacion());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PortafolioResponse> getPortafolio(String userId) {
+        log.info("Obteniendo portafolio para el usuario: {}", userId);
+        return profileMapper.toPortafolioResponses(
+                readSection(userId, ProfileSection.PORTAFOLIO).getPortafolio());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileVersionResponse getProfileVersion(String userId) {
+        log.debug("Obteniendo versión del perfil para el usuario: {}", userId);
+
+        ProfileVersionView view = profileRepository.readVersion(userId)
                 .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
 
-        log.debug("Perfil encontrado para el usuario: {}", userId);
-        return profileMapper.toProfileResponse(profile);
+        return ProfileVersionResponse.builder()
+                .version(view.version())
+                .ultimaActualizacion(view.metadata() != null ? view.metadata().getUltimaActualizacion() : null)
+                .build();
     }
 
     /**
@@ -89,14 +321,11 @@ public class ProfileServiceImpl implements ProfileService {
     public InformacionPersonalResponse updateInformacionPersonal(String userId, InformacionPersonalRequest request) {
         log.info("Actualizando información personal para el usuario: {}", userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
         InformacionPersonal informacionPersonal = profileMapper.toInformacionPersonal(request);
-        profile.setInformacionPersonal(informacionPersonal);
 
-        updateMetadata(profile);
-        profileRepository.save(profile);
+        if (!profileRepository.updateInformacionPersonal(userId, informacionPersonal)) {
+            throw ProfileNotFoundException.forUserId(userId);
+        }
 
         log.info("Información personal actualizada exitosamente para el usuario: {}", userId);
         return profileMapper.toInformacionPersonalResponse(informacionPersonal);
@@ -107,18 +336,215 @@ public class ProfileServiceImpl implements ProfileService {
      */
     @Override
     @Transactional
-    public ExperienciaLaboralResponse addExperienciaLaboral(String userId, ExperienciaLaboralRequest request) {
-        log.info("Añadiendo experiencia laboral para el usuario: {}", userId);
+    public InformacionPersonalResponse patchInformacionPersonal(String userId, JsonNode patch) {
+        log.info("Modificando parcialmente la información personal para el usuario: {}", userId);
+
+        FieldPatch fieldPatch = mergePatchMapper.toFieldPatch(patch, InformacionPersonalRequest.class,
+                () -> findSection(userId, ProfileSection.INFORMACION_PERSONAL).getInformacionPersonal());
+        Profile profile = fieldPatch.isEmpty()
+                ? findSection(userId, ProfileSection.INFORMACION_PERSONAL)
+                : profileRepository.patchInformacionPersonal(userId, fieldPatch)
+                        .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+
+        log.info("Información personal modificada ({} campos asignados, {} eliminados) para el usuario: {}",
+                fieldPatch.set().size(), fieldPatch.unset().size(), userId);
+        return profileMapper.toInformacionPersonalResponse(profile.getInformacionPersonal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public ProfilePatchResponse patchProfile(String userId, ProfilePatchRequest request) {
+        log.info("Aplicando {} operaciones al perfil del usuario: {}", request.getOperations().size(), userId);
+
+        List<Object> values = parsePatchValues(request.getOperations());
+        // Con versión esperada un conflicto se informa al cliente en lugar de reintentarse
+        ProfilePatchResponse response = request.getExpectedVersion() != null
+                ? doPatchProfile(userId, request, values)
+                : withRetry("patchProfile", () -> doPatchProfile(userId, request, values));
+
+        log.info("Perfil del usuario {} actualizado a la versión {}", userId, response.getVersion());
+        return response;
+    }
 
-        Profile profile = profileRepository.findById(userId)
+    /**
+     * Aplica las operaciones sobre el estado actual del perfil y escribe las secciones
+     * modificadas condicionando la escritura a la versión leída. Se reintenta completa
+     * si otra petición modificó el perfil entre la lectura y la escritura.
+     *
+     * @param userId identificador del usuario
+     * @param request operaciones a aplicar
+     * @param values valor ya validado de cada operación
+     * @return identificadores de los elementos afectados y nueva versión
+     */
+    private ProfilePatchResponse doPatchProfile(String userId, ProfilePatchRequest request, List<Object> values) {
+        Profile profile = profileRepository.findProfile(userId)
                 .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+        if (request.getExpectedVersion() != null && !request.getExpectedVersion().equals(profile.getVersion())) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "El perfil %s está en la versión %s y no en la %s", userId, profile.getVersion(),
+                    request.getExpectedVersion()));
+        }
+
+        Map<ProfileSection, Object> sections = new EnumMap<>(ProfileSection.class);
+        List<String> itemIds = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            ProfilePatchOperation operation = request.getOperations().get(i);
+            ProfileSection section = operation.getSection();
+            Object value = values.get(i);
+
+            if (section == ProfileSection.INFORMACION_PERSONAL) {
+                InformacionPersonal informacionPersonal = profileMapper.toInformacionPersonal((InformacionPersonalRequest) value);
+                informacionPersonal.setEmail(profile.getInformacionPersonal() != null
+                        ? profile.getInformacionPersonal().getEmail() : null);
+                sections.put(section, informacionPersonal);
+                itemIds.add(null);
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Object> items = (List<Object>) sections.computeIfAbsent(section,
+                    s -> new ArrayList<Object>(currentItems(profile, s)));
+            String itemId = switch (operation.getOp()) {
+                case ADD -> {
+                    String newId = UUID.randomUUID().toString();
+                    items.add(toItem(section, value, newId));
+                    yield newId;
+                }
+                case UPDATE -> {
+                    items.set(indexOfItem(items, userId, section, operation.getItemId()),
+                            toItem(section, value, operation.getItemId()));
+                    yield operation.getItemId();
+                }
+                case DELETE -> {
+                    items.remove(indexOfItem(items, userId, section, operation.getItemId()));
+                    yield operation.getItemId();
+                }
+            };
+            itemIds.add(itemId);
+        }
+
+        if (!profileRepository.replaceSections(userId, profile.getVersion(), sections)) {
+            throw new OptimisticLockingFailureException("El perfil " + userId + " fue modificado durante la edición");
+        }
+
+        long version = (profile.getVersion() != null ? profile.getVersion() : 0L) + 1;
+        if (sections.containsKey(ProfileSection.HABILIDADES) && skillIndex.isEnabled()) {
+            @SuppressWarnings("unchecked")
+            List<Habilidad> habilidades = (List<Habilidad>) sections.get(ProfileSection.HABILIDADES);
+            skillIndex.update(userId, habilidades, version);
+        }
+
+        return ProfilePatchResponse.builder()
+                .userId(userId)
+                .version(version)
+                .itemIds(itemIds)
+                .build();
+    }
+
+    /**
+     * Comprueba la estructura de todas las operaciones e interpreta y valida su valor con el
+     * DTO de la sección, acumulando los errores para informarlos juntos.
+     *
+     * @param operations operaciones recibidas
+     * @return valor de cada operación, null en las eliminaciones
+     * @throws InvalidDataException si alguna operación no es válida
+     */
+    private List<Object> parsePatchValues(List<ProfilePatchOperation> operations) {
+        List<String> errors = new ArrayList<>();
+        List<Object> values = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            ProfilePatchOperation operation = operations.get(i);
+            String prefix = "operations[" + i + "]";
+            boolean personalInfo = operation.getSection() == ProfileSection.INFORMACION_PERSONAL;
+
+            if (personalInfo && operation.getOp() != PatchOperationType.UPDATE) {
+                errors.add(prefix + ".op: la información personal solo admite UPDATE");
+            }
+            if (!personalInfo && operation.getOp() != PatchOperationType.ADD
+                    && (operation.getItemId() == null || operation.getItemId().isBlank())) {
+                errors.add(prefix + ".itemId: es obligatorio en " + operation.getOp());
+            }
+            if (operation.getOp() == PatchOperationType.DELETE) {
+                values.add(null);
+                continue;
+            }
+            if (operation.getValue() == null || operation.getValue().isNull()) {
+                errors.add(prefix + ".value: es obligatorio en " + operation.getOp());
+                values.add(null);
+                continue;
+            }
+
+            try {
+                Object value = objectMapper.treeToValue(operation.getValue(), PATCH_VALUE_TYPES.get(operation.getSection()));
+                validator.validate(value).forEach(violation ->
+                        errors.add(prefix + ".value." + violation.getPropertyPath() + ": " + violation.getMessage()));
+                values.add(value);
+            } catch (JsonProcessingException e) {
+                errors.add(prefix + ".value: " + e.getOriginalMessage());
+                values.add(null);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidDataException("Operaciones inválidas: " + String.join("; ", errors));
+        }
+        return values;
+    }
+
+    private static List<?> currentItems(Profile profile, ProfileSection section) {
+        List<?> items = switch (section) {
+            case HABILIDADES -> profile.getHabilidades();
+            case EXPERIENCIA_LABORAL -> profile.getExperienciaLaboral();
+            case EDUCACION -> profile.getEducacion();
+            case PORTAFOLIO -> profile.getPortafolio();
+            case INFORMACION_PERSONAL -> throw new IllegalArgumentException("La información personal no es una lista");
+        };
+        return items != null ? items : List.of();
+    }
+
+    private Object toItem(ProfileSection section, Object value, String itemId) {
+        return switch (section) {
+            case HABILIDADES -> profileMapper.toHabilidad((HabilidadRequest) value, itemId);
+            case EXPERIENCIA_LABORAL -> profileMapper.toExperienciaLaboral((ExperienciaLaboralRequest) value, itemId);
+            case EDUCACION -> profileMapper.toEducacion((EducacionRequest) value, itemId);
+            case PORTAFOLIO -> profileMapper.toPortafolio((PortafolioRequest) value, itemId);
+            case INFORMACION_PERSONAL -> throw new IllegalArgumentException("La información personal no es una lista");
+        };
+    }
+
+    private static int indexOfItem(List<Object> items, String userId, ProfileSection section, String itemId) {
+        for (int i = 0; i < items.size(); i++) {
+            String id = switch (items.get(i)) {
+                case Habilidad habilidad -> habilidad.getId();
+                case ExperienciaLaboral experiencia -> experiencia.getId();
+                case Educacion educacion -> educacion.getId();
+                case Portafolio portafolio -> portafolio.getId();
+                default -> null;
+            };
+            if (itemId.equals(id)) {
+                return i;
+            }
+        }
+        throw ResourceNotFoundException.forResource(section.getResourceName(), itemId, userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public ExperienciaLaboralResponse addExperienciaLaboral(String userId, ExperienciaLaboralRequest request) {
+        log.info("Añadiendo experiencia laboral para el usuario: {}", userId);
 
         String experienceId = UUID.randomUUID().toString();
         ExperienciaLaboral experiencia = profileMapper.toExperienciaLaboral(request, experienceId);
 
-        profile.getExperienciaLaboral().add(experiencia);
-        updateMetadata(profile);
-        profileRepository.save(profile);
+        if (!profileRepository.pushItem(userId, ProfileSection.EXPERIENCIA_LABORAL, experiencia)) {
+            throw ProfileNotFoundException.forUserId(userId);
+        }
 
         log.info("Experiencia laboral añadida con ID: {} para el usuario: {}", experienceId, userId);
         return profileMapper.toExperienciaLaboralResponse(experiencia);
@@ -133,25 +559,30 @@ public class ProfileServiceImpl implements ProfileService {
                                                                 ExperienciaLaboralRequest request) {
         log.info("Actualizando experiencia laboral {} para el usuario: {}", experienceId, userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+        ExperienciaLaboral experiencia = profileMapper.toExperienciaLaboral(request, experienceId);
 
-        ExperienciaLaboral experiencia = profile.getExperienciaLaboral().stream()
-                .filter(exp -> exp.getId().equals(experienceId))
-                .findFirst()
-                .orElseThrow(() -> ResourceNotFoundException.forResource("Experiencia laboral", experienceId, userId));
+        if (!profileRepository.replaceItem(userId, ProfileSection.EXPERIENCIA_LABORAL, experienceId, experiencia)) {
+            throw notFound(userId, ProfileSection.EXPERIENCIA_LABORAL, experienceId);
+        }
 
-        // Actualizar campos
-        experiencia.setEmpresa(request.getEmpresa());
-        experiencia.setPuesto(request.getPuesto());
-        experiencia.setFechaInicio(request.getFechaInicio());
-        experiencia.setFechaFin(request.getFechaFin());
-        experiencia.setDescripcion(request.getDescripcion());
+        log.info("Experiencia laboral {} actualizada para el usuario: {}", experienceId, userId);
+        return profileMapper.toExperienciaLaboralResponse(experiencia);
+    }
 
-        updateMetadata(profile);
-        profileRepository.save(profile);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public ExperienciaLaboralResponse patchExperienciaLaboral(String userId, String experienceId, JsonNode patch) {
+        log.info("Modificando parcialmente la experiencia laboral {} para el usuario: {}", experienceId, userId);
 
-        log.info("Experiencia laboral {} actualizada para el usuario: {}", experienceId, userId);
+        Profile profile = patchItem(userId, ProfileSection.EXPERIENCIA_LABORAL, experienceId, patch,
+                ExperienciaLaboralRequest.class);
+        ExperienciaLaboral experiencia = findItem(profile.getExperienciaLaboral(), ExperienciaLaboral::getId,
+                userId, ProfileSection.EXPERIENCIA_LABORAL, experienceId);
+
+        log.info("Experiencia laboral {} modificada para el usuario: {}", experienceId, userId);
         return profileMapper.toExperienciaLaboralResponse(experiencia);
     }
 
@@ -163,19 +594,10 @@ public class ProfileServiceImpl implements ProfileService {
     public void deleteExperienciaLaboral(String userId, String experienceId) {
         log.info("Eliminando experiencia laboral {} para el usuario: {}", experienceId, userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
-        boolean removed = profile.getExperienciaLaboral()
-                .removeIf(exp -> exp.getId().equals(experienceId));
-
-        if (!removed) {
-            throw ResourceNotFoundException.forResource("Experiencia laboral", experienceId, userId);
+        if (!profileRepository.pullItem(userId, ProfileSection.EXPERIENCIA_LABORAL, experienceId)) {
+            throw notFound(userId, ProfileSection.EXPERIENCIA_LABORAL, experienceId);
         }
 
-        updateMetadata(profile);
-        profileRepository.save(profile);
-
         log.info("Experiencia laboral {} eliminada para el usuario: {}", experienceId, userId);
     }
 
@@ -187,15 +609,12 @@ public class ProfileServiceImpl implements ProfileService {
     public HabilidadResponse addHabilidad(String userId, HabilidadRequest request) {
         log.info("Añadiendo habilidad para el usuario: {}", userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
         String skillId = UUID.randomUUID().toString();
         Habilidad habilidad = profileMapper.toHabilidad(request, skillId);
 
-        profile.getHabilidades().add(habilidad);
-        updateMetadata(profile);
-        profileRepository.save(profile);
+        Profile profile = profileRepository.pushItemAndReturn(userId, ProfileSection.HABILIDADES, habilidad)
+                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+        updateSkillIndex(profile);
 
         log.info("Habilidad añadida con ID: {} para el usuario: {}", skillId, userId);
         return profileMapper.toHabilidadResponse(habilidad);
@@ -209,18 +628,9 @@ public class ProfileServiceImpl implements ProfileService {
     public void deleteHabilidad(String userId, String skillId) {
         log.info("Eliminando habilidad {} para el usuario: {}", skillId, userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
-        boolean removed = profile.getHabilidades()
-                .removeIf(skill -> skill.getId().equals(skillId));
-
-        if (!removed) {
-            throw ResourceNotFoundException.forResource("Habilidad", skillId, userId);
-        }
-
-        updateMetadata(profile);
-        profileRepository.save(profile);
+        Profile profile = profileRepository.pullItemAndReturn(userId, ProfileSection.HABILIDADES, skillId)
+                .orElseThrow(() -> notFound(userId, ProfileSection.HABILIDADES, skillId));
+        updateSkillIndex(profile);
 
         log.info("Habilidad {} eliminada para el usuario: {}", skillId, userId);
     }
@@ -233,15 +643,12 @@ public class ProfileServiceImpl implements ProfileService {
     public EducacionResponse addEducacion(String userId, EducacionRequest request) {
         log.info("Añadiendo educación para el usuario: {}", userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
         String educationId = UUID.randomUUID().toString();
         Educacion educacion = profileMapper.toEducacion(request, educationId);
 
-        profile.getEducacion().add(educacion);
-        updateMetadata(profile);
-        profileRepository.save(profile);
+        if (!profileRepository.pushItem(userId, ProfileSection.EDUCACION, educacion)) {
+            throw ProfileNotFoundException.forUserId(userId);
+        }
 
         log.info("Educación añadida con ID: {} para el usuario: {}", educationId, userId);
         return profileMapper.toEducacionResponse(educacion);
@@ -255,23 +662,29 @@ public class ProfileServiceImpl implements ProfileService {
     public EducacionResponse updateEducacion(String userId, String educationId, EducacionRequest request) {
         log.info("Actualizando educación {} para el usuario: {}", educationId, userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+        Educacion educacion = profileMapper.toEducacion(request, educationId);
+
+        if (!profileRepository.replaceItem(userId, ProfileSection.EDUCACION, educationId, educacion)) {
+            throw notFound(userId, ProfileSection.EDUCACION, educationId);
+        }
 
-        Educacion educacion = profile.getEducacion().stream()
-                .filter(edu -> edu.getId().equals(educationId))
-                .findFirst()
-                .orElseThrow(() -> ResourceNotFoundException.forResource("Educación", educationId, userId));
+        log.info("Educación {} actualizada para el usuario: {}", educationId, userId);
+        return profileMapper.toEducacionResponse(educacion);
+    }
 
-        // Actualizar campos
-        educacion.setInstitucion(request.getInstitucion());
-        educacion.setTitulo(request.getTitulo());
-        educacion.setFechaFin(request.getFechaFin());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public EducacionResponse patchEducacion(String userId, String educationId, JsonNode patch) {
+        log.info("Modificando parcialmente la educación {} para el usuario: {}", educationId, userId);
 
-        updateMetadata(profile);
-        profileRepository.save(profile);
+        Profile profile = patchItem(userId, ProfileSection.EDUCACION, educationId, patch, EducacionRequest.class);
+        Educacion educacion = findItem(profile.getEducacion(), Educacion::getId,
+                userId, ProfileSection.EDUCACION, educationId);
 
-        log.info("Educación {} actualizada para el usuario: {}", educationId, userId);
+        log.info("Educación {} modificada para el usuario: {}", educationId, userId);
         return profileMapper.toEducacionResponse(educacion);
     }
 
@@ -283,19 +696,10 @@ public class ProfileServiceImpl implements ProfileService {
     public void deleteEducacion(String userId, String educationId) {
         log.info("Eliminando educación {} para el usuario: {}", educationId, userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
-        boolean removed = profile.getEducacion()
-                .removeIf(edu -> edu.getId().equals(educationId));
-
-        if (!removed) {
-            throw ResourceNotFoundException.forResource("Educación", educationId, userId);
+        if (!profileRepository.pullItem(userId, ProfileSection.EDUCACION, educationId)) {
+            throw notFound(userId, ProfileSection.EDUCACION, educationId);
         }
 
-        updateMetadata(profile);
-        profileRepository.save(profile);
-
         log.info("Educación {} eliminada para el usuario: {}", educationId, userId);
     }
 
@@ -307,15 +711,12 @@ public class ProfileServiceImpl implements ProfileService {
     public PortafolioResponse addPortafolio(String userId, PortafolioRequest request) {
         log.info("Añadiendo proyecto al portafolio para el usuario: {}", userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
         String portfolioId = UUID.randomUUID().toString();
         Portafolio portafolio = profileMapper.toPortafolio(request, portfolioId);
 
-        profile.getPortafolio().add(portafolio);
-        updateMetadata(profile);
-        profileRepository.save(profile);
+        if (!profileRepository.pushItem(userId, ProfileSection.PORTAFOLIO, portafolio)) {
+            throw ProfileNotFoundException.forUserId(userId);
+        }
 
         log.info("Proyecto añadido al portafolio con ID: {} para el usuario: {}", portfolioId, userId);
         return profileMapper.toPortafolioResponse(portafolio);
@@ -329,24 +730,29 @@ public class ProfileServiceImpl implements ProfileService {
     public PortafolioResponse updatePortafolio(String userId, String portfolioId, PortafolioRequest request) {
         log.info("Actualizando proyecto {} del portafolio para el usuario: {}", portfolioId, userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+        Portafolio portafolio = profileMapper.toPortafolio(request, portfolioId);
 
-        Portafolio portafolio = profile.getPortafolio().stream()
-                .filter(port -> port.getId().equals(portfolioId))
-                .findFirst()
-                .orElseThrow(() -> ResourceNotFoundException.forResource("Portafolio", portfolioId, userId));
+        if (!profileRepository.replaceItem(userId, ProfileSection.PORTAFOLIO, portfolioId, portafolio)) {
+            throw notFound(userId, ProfileSection.PORTAFOLIO, portfolioId);
+        }
 
-        // Actualizar campos
-        portafolio.setTitulo(request.getTitulo());
-        portafolio.setDescripcion(request.getDescripcion());
-        portafolio.setUrl(request.getUrl());
-        portafolio.setDocumentoUrl(request.getDocumentoUrl());
+        log.info("Proyecto {} del portafolio actualizado para el usuario: {}", portfolioId, userId);
+        return profileMapper.toPortafolioResponse(portafolio);
+    }
 
-        updateMetadata(profile);
-        profileRepository.save(profile);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public PortafolioResponse patchPortafolio(String userId, String portfolioId, JsonNode patch) {
+        log.info("Modificando parcialmente el proyecto {} del portafolio para el usuario: {}", portfolioId, userId);
 
-        log.info("Proyecto {} del portafolio actualizado para el usuario: {}", portfolioId, userId);
+        Profile profile = patchItem(userId, ProfileSection.PORTAFOLIO, portfolioId, patch, PortafolioRequest.class);
+        Portafolio portafolio = findItem(profile.getPortafolio(), Portafolio::getId,
+                userId, ProfileSection.PORTAFOLIO, portfolioId);
+
+        log.info("Proyecto {} del portafolio modificado para el usuario: {}", portfolioId, userId);
         return profileMapper.toPortafolioResponse(portafolio);
     }
 
@@ -358,61 +764,165 @@ public class ProfileServiceImpl implements ProfileService {
     public void deletePortafolio(String userId, String portfolioId) {
         log.info("Eliminando proyecto {} del portafolio para el usuario: {}", portfolioId, userId);
 
-        Profile profile = profileRepository.findById(userId)
-                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
-
-        boolean removed = profile.getPortafolio()
-                .removeIf(port -> port.getId().equals(portfolioId));
-
-        if (!removed) {
-            throw ResourceNotFoundException.forResource("Portafolio", portfolioId, userId);
+        if (!profileRepository.pullItem(userId, ProfileSection.PORTAFOLIO, portfolioId)) {
+            throw notFound(userId, ProfileSection.PORTAFOLIO, portfolioId);
         }
 
-        updateMetadata(profile);
-        profileRepository.save(profile);
-
         log.info("Proyecto {} del portafolio eliminado para el usuario: {}", portfolioId, userId);
     }
 
     /**
-     * Actualiza los metadatos del perfil incluyendo la fecha de última actualización
-     * y el estado de completitud del perfil.
+     * Traduce el merge patch y lo aplica sobre el elemento de la sección. Un patch vacío
+     * no escribe y devuelve el estado actual.
      *
-     * @param profile perfil a actualizar
+     * @param userId identificador del usuario
+     * @param section sección que contiene el elemento
+     * @param itemId identificador del elemento
+     * @param patch documento merge patch
+     * @param requestType DTO de request de la sección
+     * @return perfil con la sección resultante proyectada
      */
-    private void updateMetadata(Profile profile) {
-        if (profile.getMetadata() == null) {
-            profile.setMetadata(Metadata.builder()
-                    .fechaCreacion(LocalDateTime.now())
-                    .build());
+    private Profile patchItem(String userId, ProfileSection section, String itemId, JsonNode patch,
+                              Class<?> requestType) {
+        FieldPatch fieldPatch = mergePatchMapper.toFieldPatch(patch, requestType);
+        Optional<Profile> profile = fieldPatch.isEmpty()
+                ? profileRepository.findSection(userId, section)
+                : profileRepository.patchItem(userId, section, itemId, fieldPatch);
+        return profile.orElseThrow(() -> notFound(userId, section, itemId));
+    }
+
+    private static <T> T findItem(List<T> items, Function<T, String> idOf, String userId,
+                                  ProfileSection section, String itemId) {
+        if (items != null) {
+            for (T item : items) {
+                if (itemId.equals(idOf.apply(item))) {
+                    return item;
+                }
+            }
         }
+        throw ResourceNotFoundException.forResource(section.getResourceName(), itemId, userId);
+    }
 
-        profile.getMetadata().setUltimaActualizacion(LocalDateTime.now());
-        profile.getMetadata().setPerfilCompleto(isProfileComplete(profile));
+    /**
+     * Resuelve la búsqueda con el índice de habilidades en memoria y carga de MongoDB
+     * solo los resúmenes de la página, conservando el orden del índice.
+     */
+    private List<Profile> searchInSkillIndex(Map<String, NivelHabilidad> minimumLevels, SkillMatchMode mode,
+                                             String afterId, int limit) {
+        List<String> userIds = skillIndex.search(minimumLevels, mode, afterId, limit);
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Profile> found = profileRepository.findCardsByIds(userIds).stream()
+                .collect(Collectors.toMap(Profile::getId, Function.identity()));
+        return userIds.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
 
-        log.debug("Metadatos actualizados para el perfil. PerfilCompleto: {}",
-                profile.getMetadata().getPerfilCompleto());
+    /**
+     * Notifica al índice de habilidades las habilidades y la versión que dejó la escritura,
+     * devueltas por la propia operación, sin una lectura adicional.
+     */
+    private void updateSkillIndex(Profile profile) {
+        if (skillIndex.isEnabled()) {
+            skillIndex.update(profile.getId(), profile.getHabilidades(), profile.getVersion());
+        }
     }
 
     /**
-     * Verifica si un perfil está completo.
-     * Un perfil se considera completo si tiene información personal,
-     * al menos una habilidad y al menos una experiencia laboral.
+     * Construye el perfil base de un usuario recién verificado con sus metadatos iniciales.
      *
-     * @param profile perfil a verificar
-     * @return true si el perfil está completo, false en caso contrario
+     * @param event datos del evento
+     * @return perfil base sin persistir
      */
-    private boolean isProfileComplete(Profile profile) {
-        boolean hasPersonalInfo = profile.getInformacionPersonal() != null &&
-                profile.getInformacionPersonal().getNombreCompleto() != null &&
-                profile.getInformacionPersonal().getTituloProfesional() != null;
+    private Profile toBaseProfile(CuentaVerificadaEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        return Profile.builder()
+                .id(event.accountId())
+                .informacionPersonal(
+                        InformacionPersonal.builder()
+                                .nombreCompleto(event.fullName())
+                                .email(event.email())
+                                .build()
+                )
+                .metadata(Metadata.builder()
+                        .fechaCreacion(now)
+                        .ultimaActualizacion(now)
+                        .perfilCompleto(false)
+                        .build())
+                .version(0L)
+                .build();
+    }
+
+    /**
+     * Carga el perfil proyectando únicamente la sección indicada.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a cargar
+     * @return perfil con la sección proyectada
+     * @throws ProfileNotFoundException si no existe el perfil
+     */
+    private Profile findSection(String userId, ProfileSection section) {
+        return profileRepository.findSection(userId, section)
+                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+    }
 
-        boolean hasSkills = profile.getHabilidades() != null && !profile.getHabilidades().isEmpty();
+    /**
+     * Carga el perfil proyectando únicamente la sección indicada para una consulta de
+     * solo lectura, con la preferencia de lectura configurada.
+     *
+     * @param userId identificador del usuario
+     * @param section sección a cargar
+     * @return perfil con la sección proyectada
+     * @throws ProfileNotFoundException si no existe el perfil
+     */
+    private Profile readSection(String userId, ProfileSection section) {
+        return profileRepository.readSection(userId, section)
+                .orElseThrow(() -> ProfileNotFoundException.forUserId(userId));
+    }
 
-        boolean hasExperience = profile.getExperienciaLaboral() != null &&
-                !profile.getExperienciaLaboral().isEmpty();
+    /**
+     * Ejecuta una operación de escritura con reintentos acotados ante conflictos de
+     * concurrencia optimista. Cada intento vuelve a leer el estado actual, por lo que
+     * la operación reintentada debe ser completa (lectura y escritura condicional).
+     *
+     * @param operation nombre de la operación, usado como etiqueta de las métricas
+     * @param action operación a ejecutar
+     * @param <T> tipo del resultado
+     * @return resultado de la operación
+     * @throws OptimisticLockingFailureException si el conflicto persiste tras el último intento
+     */
+    private <T> T withRetry(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException ex) {
+                meterRegistry.counter("profile.write.conflicts", "operation", operation).increment();
+
+                if (attempt >= maxWriteAttempts) {
+                    log.warn("Conflicto de concurrencia en {} tras {} intentos", operation, attempt);
+                    throw ex;
+                }
+
+                meterRegistry.counter("profile.write.retries", "operation", operation).increment();
+                log.debug("Conflicto de concurrencia en {}, reintento {} de {}", operation, attempt + 1, maxWriteAttempts);
+            }
+        }
+    }
 
-        return hasPersonalInfo && hasSkills && hasExperience;
+    /**
+     * Construye la excepción adecuada cuando una escritura sobre un elemento no encontró
+     * coincidencias. Solo en este caso de error se consulta si el perfil existe, para
+     * distinguir entre perfil inexistente y elemento inexistente.
+     *
+     * @param userId identificador del usuario
+     * @param section sección sobre la que se operó
+     * @param resourceId identificador del elemento
+     * @return excepción a lanzar
+     */
+    private RuntimeException notFound(String userId, ProfileSection section, String resourceId) {
+        if (!profileRepository.existsById(userId)) {
+            return ProfileNotFoundException.forUserId(userId);
+        }
+        return ResourceNotFoundException.forResource(section.getResourceName(), resourceId, userId);
     }
 }
-
@@ -0,0 +1,48 @@
+package com.udeajobs.profile.profile_service.service;
+
+import com.udeajobs.profile.profile_service.dto.response.ProfileImportResponse;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Interfaz del servicio de exportación e importación masiva de perfiles en formato NDJSON
+ * (un perfil JSON por línea).
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public interface ProfileTransferService {
+
+    /**
+     * Escribe en formato NDJSON los perfiles que cumplen los filtros indicados.
+     * Los perfiles se leen con un cursor y se escriben uno a uno, de modo que la memoria
+     * usada no depende del número de perfiles exportados.
+     *
+     * @param perfilCompleto filtra por completitud del perfil, nulo para no filtrar
+     * @param updatedSince fecha mínima de última actualización, nula para no filtrar
+     * @param sections secciones a incluir, todas si es nulo o vacío
+     * @param output flujo de salida
+     * @return número de perfiles exportados
+     * @throws IOException si falla la escritura en el flujo de salida
+     */
+    long exportProfiles(Boolean perfilCompleto, LocalDateTime updatedSince, Set<ProfileSection> sections,
+                        OutputStream output) throws IOException;
+
+    /**
+     * Importa perfiles desde un flujo NDJSON.
+     * Cada línea se valida con las mismas restricciones que la API y los perfiles válidos
+     * se escriben en lotes mediante escrituras masivas no ordenadas, varios lotes en paralelo.
+     * Cada perfil se crea si no existe o se reemplaza su contenido si ya existe. Las líneas
+     * con errores de formato, validación o escritura se reportan sin detener la importación.
+     *
+     * @param input flujo NDJSON de entrada
+     * @return resumen de la importación con los errores por línea
+     * @throws IOException si falla la lectura del flujo de entrada
+     */
+    ProfileImportResponse importProfiles(InputStream input) throws IOException;
+}
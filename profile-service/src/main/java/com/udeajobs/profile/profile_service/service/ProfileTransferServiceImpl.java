@@ -0,0 +1,429 @@
+package com.udeajobs.profile.profile_service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udeajobs.profile.profile_service.dto.request.ProfileImportRequest;
+import com.udeajobs.profile.profile_service.dto.response.ImportLineError;
+import com.udeajobs.profile.profile_service.dto.response.ProfileImportResponse;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.enums.ProfileSection;
+import com.udeajobs.profile.profile_service.mapper.ProfileMapper;
+import com.udeajobs.profile.profile_service.repository.BulkUpsertResult;
+import com.udeajobs.profile.profile_service.repository.ProfileRepository;
+import com.udeajobs.profile.profile_service.search.SkillIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del servicio de exportación e importación masiva de perfiles.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfileTransferServiceImpl implements ProfileTransferService {
+
+    /**
+     * Perfiles escritos entre cada vaciado del buffer hacia el cliente
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    /**
+     * Máximo de errores por línea incluidos en el resumen de una importación
+     */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Perfiles importados entre cada registro de progreso
+     */
+    private static final long PROGRESS_INTERVAL = 10_000;
+
+    private final ProfileRepository profileRepository;
+    private final ProfileMapper profileMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+    private final SkillIndex skillIndex;
+
+    @Value("${profile.import.batch-size:1000}")
+    private int importBatchSize;
+
+    @Value("${profile.import.parallelism:4}")
+    private int importParallelism;
+
+    @Value("${profile.import.max-line-length:1048576}")
+    private int importMaxLineLength;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long exportProfiles(Boolean perfilCompleto, LocalDateTime updatedSince, Set<ProfileSection> sections,
+                               OutputStream output) throws IOException {
+        log.info("Exportando perfiles (perfilCompleto={}, updatedSince={}, sections={})",
+                perfilCompleto, updatedSince, sections);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long count = 0;
+        try (Stream<Profile> profiles = profileRepository.streamProfiles(perfilCompleto, updatedSince, sections);
+             JsonGenerator generator = objectMapper.createGenerator(output)) {
+            // El flujo de salida pertenece a la petición y lo cierra el contenedor
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Profile> iterator = profiles.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(profileMapper.toProfileExport(iterator.next(), sections));
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("profile.export.duration"));
+            meterRegistry.counter("profile.export.documents").increment(count);
+        }
+
+        log.info("Exportación finalizada: {} perfiles", count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProfileImportResponse importProfiles(InputStream input) throws IOException {
+        log.info("Importando perfiles (batchSize={}, parallelism={})", importBatchSize, importParallelism);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ImportProgress progress = new ImportProgress();
+        Semaphore permits = new Semaphore(importParallelism);
+        long lines = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            LineReader reader = new LineReader(new InputStreamReader(input, StandardCharsets.UTF_8), importMaxLineLength);
+            ImportBatch batch = new ImportBatch(importBatchSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (reader.isTruncated()) {
+                    lines++;
+                    progress.fail(lineNumber, null, "La línea supera el máximo de " + importMaxLineLength + " caracteres");
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines++;
+
+                Profile profile = parseLine(line, lineNumber, progress);
+                if (profile == null) {
+                    continue;
+                }
+                batch.add(profile, lineNumber);
+                if (batch.size() == importBatchSize) {
+                    submit(executor, permits, batch, progress);
+                    batch = new ImportBatch(importBatchSize);
+                }
+            }
+            if (batch.size() > 0) {
+                submit(executor, permits, batch, progress);
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("profile.import.duration"));
+        }
+
+        meterRegistry.counter("profile.import.documents", "result", "inserted").increment(progress.inserted.sum());
+        meterRegistry.counter("profile.import.documents", "result", "updated").increment(progress.updated.sum());
+        meterRegistry.counter("profile.import.documents", "result", "failed").increment(progress.failed.sum());
+
+        ProfileImportResponse response = ProfileImportResponse.builder()
+                .lines(lines)
+                .inserted(progress.inserted.sum())
+                .updated(progress.updated.sum())
+                .failed(progress.failed.sum())
+                .errors(progress.errors())
+                .durationMillis(progress.elapsedMillis())
+                .documentsPerSecond(progress.documentsPerSecond())
+                .build();
+        log.info("Importación finalizada: {} líneas, {} creados, {} actualizados, {} con errores ({} docs/s)",
+                response.getLines(), response.getInserted(), response.getUpdated(), response.getFailed(),
+                Math.round(response.getDocumentsPerSecond()));
+        return response;
+    }
+
+    /**
+     * Interpreta y valida una línea. Devuelve nulo y registra el error si la línea no es válida.
+     */
+    private Profile parseLine(String line, long lineNumber, ImportProgress progress) {
+        ProfileImportRequest request;
+        try {
+            request = objectMapper.readValue(line, ProfileImportRequest.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNumber, null, "JSON inválido: " + e.getOriginalMessage());
+            return null;
+        }
+        if (request == null) {
+            progress.fail(lineNumber, null, "La línea no contiene un perfil");
+            return null;
+        }
+
+        Set<ConstraintViolation<ProfileImportRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            progress.fail(lineNumber, request.getId(), message);
+            return null;
+        }
+        return profileMapper.toProfile(request);
+    }
+
+    /**
+     * Envía un lote a escribir en un hilo virtual. Si ya hay {@code parallelism} lotes en curso
+     * espera a que termine alguno, de modo que la lectura no se adelanta a la escritura.
+     */
+    private void submit(ExecutorService executor, Semaphore permits, ImportBatch batch, ImportProgress progress)
+            throws InterruptedIOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Importación de perfiles interrumpida");
+        }
+        executor.execute(() -> {
+            try {
+                writeBatch(batch, progress);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void writeBatch(ImportBatch batch, ImportProgress progress) {
+        try {
+            BulkUpsertResult result = meterRegistry.timer("profile.import.batch")
+                    .record(() -> profileRepository.upsertProfiles(batch.profiles));
+            progress.inserted.add(result.inserted());
+            progress.updated.add(result.updated());
+            result.errorsByIndex().forEach((index, message) ->
+                    progress.fail(batch.lineNumbers.get(index), batch.profiles.get(index).getId(), message));
+            updateSkillIndex(batch, result);
+        } catch (RuntimeException e) {
+            log.error("No fue posible escribir un lote de {} perfiles: {}", batch.size(), e.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                progress.fail(batch.lineNumbers.get(i), batch.profiles.get(i).getId(),
+                        "Error al escribir el lote: " + e.getMessage());
+            }
+        }
+        progress.written(batch.size());
+    }
+
+    /**
+     * Notifica al índice de habilidades las habilidades de los perfiles escritos en el lote, con
+     * la versión que les asignó la escritura. Si falla, el refresco periódico del índice los recoge.
+     */
+    private void updateSkillIndex(ImportBatch batch, BulkUpsertResult result) {
+        if (!skillIndex.isEnabled()) {
+            return;
+        }
+        List<String> written = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (!result.errorsByIndex().containsKey(i)) {
+                written.add(batch.profiles.get(i).getId());
+            }
+        }
+        if (written.isEmpty()) {
+            return;
+        }
+        try {
+            profileRepository.findSkillsByIds(written).forEach(profile ->
+                    skillIndex.update(profile.getId(), profile.getHabilidades(), profile.getVersion()));
+        } catch (RuntimeException e) {
+            log.warn("No fue posible actualizar el índice de habilidades con {} perfiles importados: {}",
+                    written.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Lector de líneas con una longitud máxima. Una línea más larga no se acumula en memoria:
+     * se descarta hasta el siguiente salto de línea y se marca como truncada.
+     */
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean truncated;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Lee la siguiente línea sin el salto de línea (\n o \r\n).
+         *
+         * @return la línea, vacía si se truncó, o nulo al final del flujo
+         */
+        private String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                    position = 0;
+                    if (limit == 0) {
+                        return read ? finish() : null;
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                append(start, position);
+                if (position < limit) {
+                    position++;
+                    return finish();
+                }
+            }
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
+
+        private void append(int start, int end) {
+            if (truncated) {
+                return;
+            }
+            // Se admite un carácter más para el \r de un salto de línea \r\n
+            if (line.length() + (end - start) > maxLength + 1) {
+                truncated = true;
+                line.setLength(0);
+            } else {
+                line.append(buffer, start, end - start);
+            }
+        }
+
+        private String finish() {
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(--length);
+            }
+            if (length > maxLength) {
+                truncated = true;
+                line.setLength(0);
+            }
+            return line.toString();
+        }
+    }
+
+    /**
+     * Lote de perfiles válidos junto con la línea de la que proviene cada uno
+     */
+    private static final class ImportBatch {
+
+        private final List<Profile> profiles;
+        private final List<Long> lineNumbers;
+
+        private ImportBatch(int capacity) {
+            this.profiles = new ArrayList<>(capacity);
+            this.lineNumbers = new ArrayList<>(capacity);
+        }
+
+        private void add(Profile profile, long lineNumber) {
+            profiles.add(profile);
+            lineNumbers.add(lineNumber);
+        }
+
+        private int size() {
+            return profiles.size();
+        }
+    }
+
+    /**
+     * Contadores de una importación, compartidos por los lotes que se escriben en paralelo
+     */
+    private static final class ImportProgress {
+
+        private final long startedAt = System.nanoTime();
+        private final LongAdder inserted = new LongAdder();
+        private final LongAdder updated = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final AtomicLong written = new AtomicLong();
+        private final List<ImportLineError> errors = new ArrayList<>();
+
+        private void fail(long line, String profileId, String message) {
+            failed.increment();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(ImportLineError.builder().line(line).profileId(profileId).message(message).build());
+                }
+            }
+        }
+
+        private void written(int count) {
+            long before = written.getAndAdd(count);
+            long after = before + count;
+            if (before / PROGRESS_INTERVAL != after / PROGRESS_INTERVAL) {
+                log.info("Importados {} perfiles ({} docs/s)", after, Math.round(documentsPerSecond()));
+            }
+        }
+
+        private List<ImportLineError> errors() {
+            synchronized (errors) {
+                List<ImportLineError> sorted = new ArrayList<>(errors);
+                sorted.sort(Comparator.comparingLong(ImportLineError::getLine));
+                return sorted;
+            }
+        }
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        }
+
+        private double documentsPerSecond() {
+            long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+            return (inserted.sum() + updated.sum()) * 1_000_000_000d / elapsedNanos;
+        }
+    }
+}
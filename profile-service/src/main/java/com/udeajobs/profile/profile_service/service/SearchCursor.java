@@ -0,0 +1,90 @@
+package com.udeajobs.profile.profile_service.service;
+
+import com.udeajobs.profile.profile_service.exception.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursores de paginación de las búsquedas. El cursor es la posición del último resultado
+ * de la página codificada en Base64 URL-safe sin relleno, opaca para el cliente. En la
+ * búsqueda por habilidades la posición es el identificador del perfil; en la búsqueda de
+ * texto, la relevancia y el identificador separados por {@value #TEXT_SEPARATOR}.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+final class SearchCursor {
+
+    /**
+     * Separador entre la relevancia y el identificador en el cursor de la búsqueda de texto
+     */
+    static final String TEXT_SEPARATOR = ":";
+
+    private SearchCursor() {
+    }
+
+    /**
+     * Posición de un resultado de la búsqueda de texto.
+     *
+     * @param score relevancia del resultado
+     * @param id identificador del perfil
+     */
+    record TextPosition(double score, String id) {
+    }
+
+    /**
+     * Codifica el identificador del último resultado de la página.
+     *
+     * @param id identificador del perfil
+     * @return cursor de la página siguiente
+     */
+    static String encode(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica el identificador contenido en un cursor.
+     *
+     * @param cursor cursor recibido del cliente
+     * @return identificador del último resultado de la página anterior
+     * @throws InvalidDataException si el cursor no es Base64 válido
+     */
+    static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("El cursor de paginación no es válido");
+        }
+    }
+
+    /**
+     * Codifica la posición del último resultado de una página de la búsqueda de texto.
+     *
+     * @param score relevancia del resultado
+     * @param id identificador del perfil
+     * @return cursor de la página siguiente
+     */
+    static String encodeText(double score, String id) {
+        return encode(score + TEXT_SEPARATOR + id);
+    }
+
+    /**
+     * Decodifica la posición contenida en un cursor de la búsqueda de texto.
+     *
+     * @param cursor cursor recibido del cliente
+     * @return relevancia e identificador del último resultado de la página anterior
+     * @throws InvalidDataException si el cursor no tiene el formato esperado
+     */
+    static TextPosition decodeText(String cursor) {
+        String[] position = decode(cursor).split(TEXT_SEPARATOR, 2);
+        if (position.length != 2) {
+            throw new InvalidDataException("El cursor de paginación no es válido");
+        }
+        try {
+            return new TextPosition(Double.parseDouble(position[0]), position[1]);
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException("El cursor de paginación no es válido");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.udeajobs.profile.profile_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udeajobs.profile.profile_service.config.CacheConfig;
+import com.udeajobs.profile.profile_service.config.ProfileServiceMetrics;
+import com.udeajobs.profile.profile_service.dto.response.ProfileResponse;
+import com.udeajobs.profile.profile_service.dto.response.SerializedProfile;
+import com.udeajobs.profile.profile_service.entity.Profile;
+import com.udeajobs.profile.profile_service.mapper.ProfileMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de perfiles serializados a JSON ({@link CacheConfig#PROFILE_JSON_CACHE}),
+ * compartida por las pilas servlet y reactiva. Las entradas se indexan por userId y
+ * versión, por lo que no es necesario invalidarlas al escribir.
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SerializedProfileCache {
+
+    private final ProfileMapper profileMapper;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final ProfileServiceMetrics profileServiceMetrics;
+
+    @Value("${profile.json-cache.gzip:true}")
+    private boolean jsonGzipEnabled;
+
+    @Value("${profile.json-cache.gzip-min-size:1024}")
+    private int jsonGzipMinSize;
+
+    /**
+     * Obtiene el perfil serializado de una versión concreta, si está en caché.
+     *
+     * @param userId identificador del usuario
+     * @param version versión del perfil
+     * @return perfil serializado, o null si no está en caché
+     */
+    public SerializedProfile get(String userId, Long version) {
+        Cache cache = cacheManager.getCache(CacheConfig.PROFILE_JSON_CACHE);
+        return cache != null ? cache.get(cacheKey(userId, version), SerializedProfile.class) : null;
+    }
+
+    /**
+     * Serializa un perfil completo y lo guarda en caché con la versión leída, que puede
+     * ser posterior a la solicitada.
+     *
+     * @param profile perfil completo leído
+     * @return perfil serializado
+     */
+    public SerializedProfile put(Profile profile) {
+        profileServiceMetrics.recordDocument(profile);
+        SerializedProfile serialized = serialize(profile);
+        profileServiceMetrics.recordDocumentSize(serialized.json().length);
+
+        Cache cache = cacheManager.getCache(CacheConfig.PROFILE_JSON_CACHE);
+        if (cache != null) {
+            cache.put(cacheKey(profile.getId(), profile.getVersion()), serialized);
+        }
+        return serialized;
+    }
+
+    /**
+     * Serializa el perfil a JSON y, si está habilitado y el cuerpo supera el tamaño mínimo,
+     * también a JSON comprimido con gzip.
+     *
+     * @param profile perfil a serializar
+     * @return perfil serializado
+     */
+    private SerializedProfile serialize(Profile profile) {
+        ProfileResponse response = profileMapper.toProfileResponse(profile);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] gzip = null;
+            if (jsonGzipEnabled && json.length >= jsonGzipMinSize) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+                    output.write(json);
+                }
+                gzip = compressed.toByteArray();
+            }
+            LocalDateTime ultimaActualizacion = profile.getMetadata() != null
+                    ? profile.getMetadata().getUltimaActualizacion() : null;
+            return new SerializedProfile(profile.getVersion(), ultimaActualizacion, json, gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible serializar el perfil " + profile.getId(), e);
+        } finally {
+            sample.stop(profileServiceMetrics.phaseTimer(ProfileServiceMetrics.SERIALIZATION_PHASE));
+        }
+    }
+
+    private static String cacheKey(String userId, Long version) {
+        return userId + ":" + version;
+    }
+}
@@ -0,0 +1,91 @@
+package com.udeajobs.profile.profile_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las lecturas concurrentes de una misma clave en una sola ejecución.
+ * El primer llamador de una clave ejecuta la lectura; los que llegan mientras sigue
+ * en curso esperan y reciben su mismo resultado, o su misma excepción, sin repetirla.
+ * La clave se libera al terminar, por lo que no se guarda ningún resultado: las
+ * lecturas posteriores vuelven a ejecutarse. Cada llamador agrupado se cuenta en
+ * {@code profile.read.coalesced}.
+ *
+ * @param <K> tipo de la clave
+ * @param <V> tipo del resultado
+ *
+ * @author UdeAJobs Team
+ * @version 1.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+    private final boolean enabled;
+
+    /**
+     * Crea un grupo de lecturas para una operación.
+     *
+     * @param meterRegistry registro de métricas
+     * @param operation nombre de la operación, usado como etiqueta de la métrica
+     * @param enabled si es false cada llamador ejecuta su propia lectura
+     */
+    public SingleFlight(MeterRegistry meterRegistry, String operation, boolean enabled) {
+        this.coalesced = Counter.builder("profile.read.coalesced")
+                .description("Lecturas que reutilizaron el resultado de otra lectura en curso de la misma clave")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Ejecuta la lectura de la clave, o espera la que ya está en curso.
+     *
+     * @param key clave de la lectura
+     * @param loader lectura a ejecutar si no hay otra en curso
+     * @return resultado de la lectura
+     */
+    public V execute(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
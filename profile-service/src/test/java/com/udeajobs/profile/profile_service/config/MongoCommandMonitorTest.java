@@ -0,0 +1,77 @@
+package com.udeajobs.profile.profile_service.config;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MongoCommandMonitorTest {
+
+    @Test
+    void findShapeReplacesValuesKeepingFieldsAndOperators() {
+        BsonDocument filter = BsonDocument.parse(
+                "{\"informacionPersonal.email\": \"ana@udea.edu.co\", \"version\": {\"$gte\": 3}}");
+
+        assertThat(MongoCommandMonitor.filterShape("find", filter))
+                .isEqualTo("{\"informacionPersonal.email\": \"?\", \"version\": {\"$gte\": \"?\"}}");
+    }
+
+    @Test
+    void arraysAreReducedToTheShapeOfTheirFirstElement() {
+        BsonDocument filter = BsonDocument.parse("{\"_id\": {\"$in\": [\"a\", \"b\", \"c\"]}}");
+
+        assertThat(MongoCommandMonitor.filterShape("find", filter))
+                .isEqualTo("{\"_id\": {\"$in\": [\"?\"]}}");
+    }
+
+    @Test
+    void aggregateShapeKeepsEveryStage() {
+        BsonArray pipeline = BsonArray.parse(
+                "[{\"$match\": {\"perfilCompleto\": true}}, {\"$limit\": 20}]");
+
+        assertThat(MongoCommandMonitor.filterShape("aggregate", pipeline))
+                .isEqualTo("[{\"$match\": {\"perfilCompleto\": \"?\"}}, {\"$limit\": \"?\"}]");
+    }
+
+    @Test
+    void updateShapeUsesTheFilterOfTheFirstStatement() {
+        BsonArray updates = BsonArray.parse(
+                "[{\"q\": {\"_id\": \"user-1\"}, \"u\": {\"$set\": {\"resumen\": \"x\"}}}]");
+
+        assertThat(MongoCommandMonitor.filterShape("update", updates)).isEqualTo("{\"_id\": \"?\"}");
+    }
+
+    @Test
+    void missingFilterHasNoShape() {
+        assertThat(MongoCommandMonitor.filterShape("find", null)).isNull();
+    }
+
+    @Test
+    void planDropsParsedQueryAndRedactsStageValues() {
+        Document plan = Document.parse("""
+                {"namespace": "profiles.profiles",
+                 "parsedQuery": {"informacionPersonal.email": {"$eq": "ana@udea.edu.co"}},
+                 "winningPlan": {"stage": "FETCH",
+                                 "filter": {"perfilCompleto": {"$eq": true}},
+                                 "inputStage": {"stage": "IXSCAN", "indexName": "email_1",
+                                                "indexBounds": {"informacionPersonal.email":
+                                                        ["[\\"ana@udea.edu.co\\", \\"ana@udea.edu.co\\"]"]}}},
+                 "rejectedPlans": []}
+                """);
+
+        Map<String, Object> redacted = MongoCommandMonitor.redactPlan(plan);
+
+        assertThat(redacted).doesNotContainKey("parsedQuery").containsEntry("namespace", "profiles.profiles");
+        assertThat(redacted.toString()).doesNotContain("ana@udea.edu.co");
+        Map<?, ?> winningPlan = (Map<?, ?>) redacted.get("winningPlan");
+        assertThat(winningPlan.get("filter")).isEqualTo(Map.of("perfilCompleto", Map.of("$eq", "?")));
+        Map<?, ?> inputStage = (Map<?, ?>) winningPlan.get("inputStage");
+        assertThat(inputStage.get("indexName")).isEqualTo("email_1");
+        assertThat(inputStage.get("indexBounds")).isEqualTo(Map.of("informacionPersonal.email", List.of("?")));
+    }
+}
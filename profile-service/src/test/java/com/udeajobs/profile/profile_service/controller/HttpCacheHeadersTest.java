@@ -0,0 +1,50 @@
+package com.udeajobs.profile.profile_service.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpCacheHeadersTest {
+
+    @Test
+    void acceptsGzipWhenListed() {
+        assertThat(HttpCacheHeaders.acceptsGzip("gzip")).isTrue();
+        assertThat(HttpCacheHeaders.acceptsGzip("deflate, GZIP, br")).isTrue();
+        assertThat(HttpCacheHeaders.acceptsGzip("gzip;q=0.5")).isTrue();
+    }
+
+    @Test
+    void rejectsGzipWhenMissingOrEmpty() {
+        assertThat(HttpCacheHeaders.acceptsGzip(null)).isFalse();
+        assertThat(HttpCacheHeaders.acceptsGzip("")).isFalse();
+        assertThat(HttpCacheHeaders.acceptsGzip("deflate, br")).isFalse();
+        assertThat(HttpCacheHeaders.acceptsGzip("x-gzip-like")).isFalse();
+    }
+
+    @Test
+    void rejectsGzipWithZeroQuality() {
+        assertThat(HttpCacheHeaders.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(HttpCacheHeaders.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(HttpCacheHeaders.acceptsGzip("br, gzip;Q=0.0")).isFalse();
+    }
+
+    @Test
+    void wildcardCountsOnlyWhenGzipIsNotListed() {
+        assertThat(HttpCacheHeaders.acceptsGzip("*")).isTrue();
+        assertThat(HttpCacheHeaders.acceptsGzip("*;q=0")).isFalse();
+        assertThat(HttpCacheHeaders.acceptsGzip("*, gzip;q=0")).isFalse();
+    }
+
+    @Test
+    void etagPrefersVersionOverLastModified() {
+        LocalDateTime updated = LocalDateTime.of(2024, 5, 1, 10, 30);
+
+        assertThat(HttpCacheHeaders.etagOf(7L, updated)).isEqualTo("\"v7\"");
+        assertThat(HttpCacheHeaders.etagOf(null, updated))
+                .isEqualTo("\"t" + HttpCacheHeaders.lastModifiedOf(updated) + "\"");
+        assertThat(HttpCacheHeaders.etagOf(null, null)).isNull();
+        assertThat(HttpCacheHeaders.lastModifiedOf(null)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.udeajobs.profile.profile_service.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.udeajobs.profile.profile_service.dto.request.InformacionPersonalRequest;
+import com.udeajobs.profile.profile_service.entity.InformacionPersonal;
+import com.udeajobs.profile.profile_service.entity.Ubicacion;
+import com.udeajobs.profile.profile_service.exception.InvalidDataException;
+import com.udeajobs.profile.profile_service.repository.FieldPatch;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MergePatchMapperTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MergePatchMapper mapper = new MergePatchMapper(objectMapper,
+            Validation.buildDefaultValidatorFactory().getValidator());
+
+    private final InformacionPersonal current = InformacionPersonal.builder()
+            .nombreCompleto("Ana Pérez")
+            .tituloProfesional("Ingeniera de Software")
+            .ubicacion(Ubicacion.builder().ciudad("Medellín").pais("Colombia").build())
+            .build();
+
+    @Test
+    void setsValuesAndUnsetsNullFields() {
+        FieldPatch patch = mapper.toFieldPatch(json("{\"resumen\":\"Backend\",\"fotoUrl\":null}"),
+                InformacionPersonalRequest.class);
+
+        assertThat(patch.set()).containsExactly(Map.entry("resumen", "Backend"));
+        assertThat(patch.unset()).containsExactly("fotoUrl");
+    }
+
+    @Test
+    void emptyPatchProducesNoChanges() {
+        assertThat(mapper.toFieldPatch(json("{}"), InformacionPersonalRequest.class).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsNonObjectPatch() {
+        assertThatThrownBy(() -> mapper.toFieldPatch(json("[]"), InformacionPersonalRequest.class))
+                .isInstanceOf(InvalidDataException.class);
+    }
+
+    @Test
+    void rejectsUnknownFields() {
+        assertThatThrownBy(() -> mapper.toFieldPatch(json("{\"email\":\"a@b.co\"}"), InformacionPersonalRequest.class))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("email: campo desconocido");
+    }
+
+    @Test
+    void rejectsUnsettingRequiredField() {
+        assertThatThrownBy(() -> mapper.toFieldPatch(json("{\"tituloProfesional\":null}"),
+                InformacionPersonalRequest.class))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("tituloProfesional");
+    }
+
+    @Test
+    void nestedObjectProducesDottedPaths() {
+        FieldPatch patch = mapper.toFieldPatch(json("{\"ubicacion\":{\"ciudad\":\"Bogotá\"}}"),
+                InformacionPersonalRequest.class, () -> current);
+
+        assertThat(patch.set()).containsExactly(Map.entry("ubicacion.ciudad", "Bogotá"));
+        assertThat(patch.unset()).isEmpty();
+    }
+
+    @Test
+    void rejectsNestedPatchLeavingMergedObjectIncomplete() {
+        assertThatThrownBy(() -> mapper.toFieldPatch(json("{\"ubicacion\":{\"pais\":null}}"),
+                InformacionPersonalRequest.class, () -> current))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("ubicacion.pais");
+    }
+
+    @Test
+    void rejectsPartialNestedObjectWhenCurrentHasNone() {
+        InformacionPersonal withoutUbicacion = InformacionPersonal.builder().nombreCompleto("Ana Pérez").build();
+
+        assertThatThrownBy(() -> mapper.toFieldPatch(json("{\"ubicacion\":{\"ciudad\":\"Bogotá\"}}"),
+                InformacionPersonalRequest.class, () -> withoutUbicacion))
+                .isInstanceOf(InvalidDataException.class)
+                .hasMessageContaining("ubicacion.pais");
+    }
+
+    @Test
+    void currentStateIsOnlyReadForNestedObjects() {
+        FieldPatch patch = mapper.toFieldPatch(json("{\"resumen\":\"Backend\"}"), InformacionPersonalRequest.class,
+                () -> {
+                    throw new AssertionError("No debería leerse el estado actual");
+                });
+
+        assertThat(patch.set()).containsKey("resumen");
+    }
+
+    private JsonNode json(String content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.udeajobs.profile.profile_service.service;
+
+import com.udeajobs.profile.profile_service.exception.InvalidDataException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void encodeProducesUrlSafeCursorWithoutPadding() {
+        String cursor = SearchCursor.encode("user-ñ?>1");
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(SearchCursor.decode(cursor)).isEqualTo("user-ñ?>1");
+    }
+
+    @Test
+    void decodeRejectsInvalidBase64() {
+        assertThatThrownBy(() -> SearchCursor.decode("no es base64!"))
+                .isInstanceOf(InvalidDataException.class);
+    }
+
+    @Test
+    void textCursorRoundTripsScoreAndIdContainingSeparator() {
+        String cursor = SearchCursor.encodeText(12.5, "tenant:42");
+
+        SearchCursor.TextPosition position = SearchCursor.decodeText(cursor);
+
+        assertThat(position.score()).isEqualTo(12.5);
+        assertThat(position.id()).isEqualTo("tenant:42");
+    }
+
+    @Test
+    void decodeTextRejectsCursorWithoutSeparator() {
+        String cursor = SearchCursor.encode("user-1");
+
+        assertThatThrownBy(() -> SearchCursor.decodeText(cursor))
+                .isInstanceOf(InvalidDataException.class);
+    }
+
+    @Test
+    void decodeTextRejectsNonNumericScore() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("alto:user-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> SearchCursor.decodeText(cursor))
+                .isInstanceOf(InvalidDataException.class);
+    }
+}
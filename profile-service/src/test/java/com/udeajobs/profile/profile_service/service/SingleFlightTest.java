@@ -0,0 +1,147 @@
+package com.udeajobs.profile.profile_service.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>(meterRegistry, "test", true);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "perfil";
+        };
+
+        List<Future<String>> results = runConcurrently(flights, loader, started);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("perfil");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(coalesced()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void waitingCallersReceiveTheSameException() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>(meterRegistry, "test", true);
+        IllegalStateException failure = new IllegalStateException("lectura fallida");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        };
+
+        List<Future<String>> results = runConcurrently(flights, loader, started);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+        }
+    }
+
+    @Test
+    void keyIsReleasedAfterCompletion() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(meterRegistry, "test", true);
+        AtomicInteger executions = new AtomicInteger();
+
+        flights.execute("user-1", executions::incrementAndGet);
+        assertThatThrownBy(() -> flights.execute("user-1", () -> {
+            throw new IllegalArgumentException();
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(flights.execute("user-1", executions::incrementAndGet)).isEqualTo(2);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    void disabledRunsEveryCaller() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(meterRegistry, "test", false);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch allStarted = new CountDownLatch(CALLERS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flights.execute("user-1", () -> {
+                    allStarted.countDown();
+                    await(allStarted);
+                    return executions.incrementAndGet();
+                })));
+            }
+            for (Future<Integer> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executions).hasValue(CALLERS);
+        assertThat(coalesced()).isZero();
+    }
+
+    /**
+     * Lanza un primer llamador y, cuando su lectura está en curso, el resto; espera a que
+     * todos estén agrupados antes de devolver.
+     */
+    private List<Future<String>> runConcurrently(SingleFlight<String, String> flights, Supplier<String> loader,
+                                                 CountDownLatch started) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> flights.execute("user-1", loader)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flights.execute("user-1", loader)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("profile.read.coalesced").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Tiempo de espera agotado");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}